@@ -0,0 +1,44 @@
+package com.tomato.rising_star_2026.benchmark;
+
+import com.tomato.rising_star_2026.RisingStar2026Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the application for benchmarks, without the web layer for those that measure the
+ * service and persistence paths. SQL and info logging are switched off so console output does
+ * not dominate the measurements.
+ */
+final class BenchmarkApplication {
+
+    private static final String[] DEFAULT_PROPERTIES = {
+            "spring.main.banner-mode=off",
+            "spring.jpa.show-sql=false",
+            "spring.jpa.properties.hibernate.format_sql=false",
+            "logging.level.root=WARN"
+    };
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return start(WebApplicationType.NONE, properties);
+    }
+
+    static ConfigurableApplicationContext startWeb(String... properties) {
+        return start(WebApplicationType.SERVLET, properties);
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType type, String... properties) {
+        List<String> allProperties = new ArrayList<>(List.of(DEFAULT_PROPERTIES));
+        allProperties.addAll(List.of(properties));
+        return new SpringApplicationBuilder(RisingStar2026Application.class)
+                .web(type)
+                .properties(allProperties.toArray(String[]::new))
+                .run();
+    }
+}
@@ -0,0 +1,76 @@
+package com.tomato.rising_star_2026.benchmark;
+
+import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.model.Booking;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import com.tomato.rising_star_2026.service.BookingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookingListBenchmark {
+
+    private static final int INSERT_CHUNK = 1000;
+
+    @Param({"10", "1000", "100000"})
+    private int bookingsPerRoom;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private Long roomId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        bookingService = context.getBean(BookingService.class);
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+        Room room = context.getBean(RoomRepository.class).save(new Room("Benchmark Room"));
+        roomId = room.getId();
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        List<Booking> chunk = new ArrayList<>(INSERT_CHUNK);
+        for (int i = 0; i < bookingsPerRoom; i++) {
+            chunk.add(new Booking(room, "Booker " + i, start, start.plusMinutes(30)));
+            start = start.plusMinutes(30);
+            if (chunk.size() == INSERT_CHUNK) {
+                bookingRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        bookingRepository.saveAll(chunk);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingResponse> getBookingsByRoom() {
+        return bookingService.getBookingsByRoom(roomId);
+    }
+}
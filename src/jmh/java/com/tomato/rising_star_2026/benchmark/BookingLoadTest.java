@@ -0,0 +1,195 @@
+package com.tomato.rising_star_2026.benchmark;
+
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Closed-loop HTTP load test of {@code POST /bookings}. Each mode starts the full application on
+ * a random port, with {@code spring.threads.virtual.enabled} set accordingly, and drives it with
+ * the given number of concurrent clients. Every request books a distinct slot, so the numbers
+ * measure the create path and not overlap rejections.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.tomato.rising_star_2026.benchmark.BookingLoadTest \
+ *     -Djmh.args="--clients=5000 --warmup=10 --duration=30 --modes=platform,virtual"
+ * </pre>
+ */
+public final class BookingLoadTest {
+
+    private static final int SLOT_MINUTES = 15;
+
+    private final int clients;
+    private final int rooms;
+    private final Duration warmup;
+    private final Duration duration;
+
+    private BookingLoadTest(int clients, int rooms, Duration warmup, Duration duration) {
+        this.clients = clients;
+        this.rooms = rooms;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = Arrays.stream(args)
+                .map(arg -> arg.replaceFirst("^--", "").split("=", 2))
+                .collect(Collectors.toMap(pair -> pair[0], pair -> pair.length > 1 ? pair[1] : "true"));
+
+        BookingLoadTest loadTest = new BookingLoadTest(
+                Integer.parseInt(options.getOrDefault("clients", "5000")),
+                Integer.parseInt(options.getOrDefault("rooms", "100")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))));
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : options.getOrDefault("modes", "platform,virtual").split(",")) {
+            results.add(loadTest.run(mode.trim()));
+        }
+
+        System.out.printf("%n%-10s %8s %10s %8s %10s %10s %10s %8s%n",
+                "Mode", "Clients", "Requests", "Errors", "Req/s", "p50 (ms)", "p99 (ms)", "Max (ms)");
+        results.forEach(System.out::println);
+    }
+
+    private Result run(String mode) throws Exception {
+        boolean virtual = switch (mode) {
+            case "platform" -> false;
+            case "virtual" -> true;
+            default -> throw new IllegalArgumentException("Unknown mode " + mode + ", expected platform or virtual");
+        };
+
+        try (ConfigurableApplicationContext context = BenchmarkApplication.startWeb(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtual,
+                "server.tomcat.max-connections=" + (clients + 1000),
+                "server.tomcat.accept-count=" + clients)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            RoomRepository roomRepository = context.getBean(RoomRepository.class);
+            List<Long> roomIds = new ArrayList<>();
+            for (int i = 0; i < rooms; i++) {
+                roomIds.add(roomRepository.save(new Room("Load Room " + i)).getId());
+            }
+
+            LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+            AtomicLong nextSlot = new AtomicLong();
+            URI uri = URI.create("http://localhost:" + port + "/bookings");
+            Function<Long, String> body = slot -> {
+                LocalDateTime start = base.plusMinutes(SLOT_MINUTES * (slot / rooms));
+                return "{\"roomId\":" + roomIds.get((int) (slot % rooms))
+                        + ",\"bookerName\":\"Load User " + slot
+                        + "\",\"startTime\":\"" + start
+                        + "\",\"endTime\":\"" + start.plusMinutes(SLOT_MINUTES) + "\"}";
+            };
+
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build()) {
+                drive(client, uri, body, nextSlot, warmup);
+                long started = System.nanoTime();
+                List<ClientStats> stats = drive(client, uri, body, nextSlot, duration);
+                double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+                return Result.of(mode, clients, stats, elapsedSeconds);
+            }
+        }
+    }
+
+    private List<ClientStats> drive(HttpClient client, URI uri, Function<Long, String> body,
+                                    AtomicLong nextSlot, Duration phase) throws Exception {
+        long deadline = System.nanoTime() + phase.toNanos();
+        List<Future<ClientStats>> futures = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    ClientStats stats = new ClientStats();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(uri)
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body.apply(nextSlot.getAndIncrement())))
+                                .build();
+                        long sent = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            stats.record(System.nanoTime() - sent, status == 201);
+                        } catch (IOException ex) {
+                            stats.record(System.nanoTime() - sent, false);
+                        }
+                    }
+                    return stats;
+                }));
+            }
+        }
+        List<ClientStats> stats = new ArrayList<>(clients);
+        for (Future<ClientStats> future : futures) {
+            stats.add(future.get());
+        }
+        return stats;
+    }
+
+    private static final class ClientStats {
+
+        private long[] latencies = new long[256];
+        private int count;
+        private int errors;
+
+        void record(long latencyNanos, boolean success) {
+            if (!success) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+    }
+
+    private record Result(String mode, int clients, long requests, long errors, double throughput,
+                          double p50Millis, double p99Millis, double maxMillis) {
+
+        static Result of(String mode, int clients, List<ClientStats> stats, double elapsedSeconds) {
+            long[] latencies = stats.stream()
+                    .flatMapToLong(client -> Arrays.stream(client.latencies, 0, client.count))
+                    .sorted()
+                    .toArray();
+            long errors = stats.stream().mapToLong(client -> client.errors).sum();
+            return new Result(mode, clients, latencies.length, errors, latencies.length / elapsedSeconds,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %8d %10d %8d %10.0f %10.1f %10.1f %8.1f",
+                    mode, clients, requests, errors, throughput, p50Millis, p99Millis, maxMillis);
+        }
+    }
+}
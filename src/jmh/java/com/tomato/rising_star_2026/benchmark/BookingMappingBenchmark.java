@@ -0,0 +1,64 @@
+package com.tomato.rising_star_2026.benchmark;
+
+import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.model.Booking;
+import com.tomato.rising_star_2026.model.BookingStatus;
+import com.tomato.rising_star_2026.model.Room;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookingMappingBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private List<Booking> bookings;
+    private List<BookingResponse> responses;
+
+    @Setup
+    public void setUp() {
+        Room room = new Room(1L, "Conference Room A");
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 8, 0);
+        bookings = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            bookings.add(new Booking(i, room, "Booker " + i, start, start.plusMinutes(30), BookingStatus.BOOKED));
+            start = start.plusMinutes(30);
+        }
+        responses = mapEntities();
+    }
+
+    @Benchmark
+    public List<BookingResponse> mapEntities() {
+        return bookings.stream()
+                .map(BookingResponse::fromEntity)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeResponses() {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
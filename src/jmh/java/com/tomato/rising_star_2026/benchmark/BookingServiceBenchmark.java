@@ -0,0 +1,73 @@
+package com.tomato.rising_star_2026.benchmark;
+
+import com.tomato.rising_star_2026.dto.BookingRequest;
+import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.exception.BookingOverlapException;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import com.tomato.rising_star_2026.service.BookingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookingServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private Long roomId;
+    private LocalDateTime firstFreeSlot;
+    private BookingRequest conflictingRequest;
+    private final AtomicLong nextSlot = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        bookingService = context.getBean(BookingService.class);
+        roomId = context.getBean(RoomRepository.class).save(new Room("Benchmark Room")).getId();
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        bookingService.createBooking(new BookingRequest(roomId, "Existing", base, base.plusHours(1)));
+        conflictingRequest = new BookingRequest(roomId, "Conflicting", base.plusMinutes(30), base.plusMinutes(90));
+        firstFreeSlot = base.plusHours(2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookingResponse createBooking() {
+        LocalDateTime start = firstFreeSlot.plusMinutes(30 * nextSlot.getAndIncrement());
+        return bookingService.createBooking(new BookingRequest(roomId, "Benchmark", start, start.plusMinutes(30)));
+    }
+
+    @Benchmark
+    public Object createBookingWithConflict() {
+        try {
+            return bookingService.createBooking(conflictingRequest);
+        } catch (BookingOverlapException ex) {
+            return ex;
+        }
+    }
+}
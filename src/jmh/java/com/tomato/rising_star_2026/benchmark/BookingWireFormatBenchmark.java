@@ -0,0 +1,83 @@
+package com.tomato.rising_star_2026.benchmark;
+
+import com.tomato.rising_star_2026.dto.BookingBinaryFormat;
+import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.model.BookingStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a room's bookings one row at a time, as the listing endpoints do, as JSON and in
+ * {@link BookingBinaryFormat}. The encoded sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookingWireFormatBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private List<BookingResponse> bookings;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setUp() throws IOException {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 8, 0);
+        bookings = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            bookings.add(new BookingResponse(i + 1, 1L, "Conference Room A", "Booker " + i % 50,
+                    start, start.plusMinutes(30), BookingStatus.BOOKED));
+            start = start.plusMinutes(30);
+        }
+        output = new ByteArrayOutputStream(size * 256);
+
+        int json = writeJson().length;
+        int binary = writeBinary().length;
+        System.out.printf("%n%d bookings: JSON %d bytes, binary %d bytes (%.1fx smaller)%n",
+                size, json, binary, (double) json / binary);
+    }
+
+    @Benchmark
+    public byte[] writeJson() {
+        output.reset();
+        try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+            generator.writeStartArray();
+            bookings.forEach(generator::writePOJO);
+            generator.writeEndArray();
+        }
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeBinary() throws IOException {
+        output.reset();
+        try (BookingBinaryFormat.Writer writer = new BookingBinaryFormat.Writer(output)) {
+            bookings.forEach(writer::write);
+        }
+        return output.toByteArray();
+    }
+}
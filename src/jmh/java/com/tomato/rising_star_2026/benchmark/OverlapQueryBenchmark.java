@@ -0,0 +1,126 @@
+package com.tomato.rising_star_2026.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the overlap query generated for {@code BookingRepository.existsOverlappingBooking}
+ * on a bookings table of {@code rows} rows, with and without the composite
+ * {@code (room_id, status, start_time, end_time)} index from the schema migrations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OverlapQueryBenchmark {
+
+    private static final String OVERLAP_QUERY = "SELECT COUNT(b.id) > 0 FROM bookings b " +
+            "WHERE b.room_id = ? AND b.status = 'BOOKED' AND b.start_time < ? AND b.end_time > ?";
+
+    private static final int ROOMS = 1000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement overlapQuery;
+    private int bookingsPerRoom;
+    private long invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = "jdbc:h2:mem:overlap_" + indexed + ";DB_CLOSE_DELAY=-1";
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration/common")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            if (!indexed) {
+                statement.execute("DROP INDEX idx_bookings_room_status_time");
+            }
+            statement.execute("INSERT INTO rooms (name) SELECT 'Room ' || x FROM SYSTEM_RANGE(1, " + ROOMS + ")");
+        }
+
+        bookingsPerRoom = rows / ROOMS;
+        insertBookings();
+        overlapQuery = connection.prepareStatement(OVERLAP_QUERY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean existsOverlappingBooking() throws SQLException {
+        long n = invocation++;
+        long roomId = 1 + n % ROOMS;
+        LocalDateTime start = BASE.plusMinutes(30 * (n % bookingsPerRoom) + 15);
+
+        overlapQuery.setLong(1, roomId);
+        overlapQuery.setTimestamp(2, Timestamp.valueOf(start.plusMinutes(30)));
+        overlapQuery.setTimestamp(3, Timestamp.valueOf(start));
+        try (ResultSet resultSet = overlapQuery.executeQuery()) {
+            resultSet.next();
+            return resultSet.getBoolean(1);
+        }
+    }
+
+    private void insertBookings() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bookings (id, room_id, booker_name, start_time, end_time, status) VALUES (?, ?, ?, ?, ?, ?)")) {
+            long id = 1;
+            for (int room = 1; room <= ROOMS; room++) {
+                for (int i = 0; i < bookingsPerRoom; i++) {
+                    LocalDateTime start = BASE.plusMinutes(30L * i);
+                    insert.setLong(1, id++);
+                    insert.setLong(2, room);
+                    insert.setString(3, "Booker");
+                    insert.setTimestamp(4, Timestamp.valueOf(start));
+                    insert.setTimestamp(5, Timestamp.valueOf(start.plusMinutes(30)));
+                    insert.setString(6, i % 10 == 0 ? "CANCELED" : "BOOKED");
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.tomato.rising_star_2026.benchmark;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.dto.ErrorResponse;
+import com.tomato.rising_star_2026.exception.BookingOverlapException;
+import com.tomato.rising_star_2026.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of turning an overlap rejection into a response body: an exception with a stack trace
+ * and a serialized {@link ErrorResponse}, as before, against a stackless exception and a
+ * pre-serialized body. {@code depth} is the number of frames between the throw and the handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RejectionPathBenchmark {
+
+    private static final String MESSAGE = "Booking overlaps with an existing booking for this room";
+
+    @Param({"10", "100"})
+    private int depth;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(objectMapper, new BookingProperties());
+
+    @Benchmark
+    public byte[] stackTraceAndSerialized() {
+        try {
+            throwAt(depth, () -> new IllegalStateException(MESSAGE));
+        } catch (IllegalStateException ex) {
+            return objectMapper.writeValueAsBytes(new ErrorResponse(409, "Conflict", ex.getMessage()));
+        }
+        throw new AssertionError();
+    }
+
+    @Benchmark
+    public byte[] stacklessAndPrepared() {
+        try {
+            throwAt(depth, BookingOverlapException::new);
+        } catch (BookingOverlapException ex) {
+            return handler.handleBookingOverlap(ex).getBody();
+        }
+        throw new AssertionError();
+    }
+
+    private static void throwAt(int depth, Supplier<RuntimeException> exception) {
+        if (depth > 0) {
+            throwAt(depth - 1, exception);
+            return;
+        }
+        throw exception.get();
+    }
+}
@@ -0,0 +1,118 @@
+package com.tomato.rising_star_2026.benchmark;
+
+import com.tomato.rising_star_2026.dto.BookingBatchResponse;
+import com.tomato.rising_star_2026.dto.BookingRequest;
+import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import com.tomato.rising_star_2026.service.BookingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write throughput of the settings before the persistent profile existed (in-memory database,
+ * SQL logged and formatted on every statement) against the persistent profile (file database,
+ * tuned pool, batching and statement reuse). Each thread books its own room, so the numbers
+ * are not limited by the per-room lock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WriteThroughputBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"baseline", "persistent"})
+    private String storage;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private RoomRepository roomRepository;
+    private LocalDateTime base;
+    private Path dataDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("booking-benchmark");
+        String audit = "booking.audit.directory=" + dataDirectory.resolve("audit");
+        context = switch (storage) {
+            case "baseline" -> BenchmarkApplication.start(audit,
+                    "spring.jpa.show-sql=true",
+                    "spring.jpa.properties.hibernate.format_sql=true");
+            case "persistent" -> BenchmarkApplication.start(audit,
+                    "spring.profiles.active=persistent",
+                    "spring.datasource.url=jdbc:h2:file:" + dataDirectory.resolve("bookingdb")
+                            + ";DB_CLOSE_ON_EXIT=FALSE;QUERY_CACHE_SIZE=64");
+            default -> throw new IllegalArgumentException("Unknown storage " + storage);
+        };
+        bookingService = context.getBean(BookingService.class);
+        roomRepository = context.getBean(RoomRepository.class);
+        base = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadRoom {
+
+        private Long roomId;
+        private long nextSlot;
+
+        @Setup(Level.Trial)
+        public void setUp(WriteThroughputBenchmark benchmark) {
+            roomId = benchmark.roomRepository.save(new Room("Benchmark Room")).getId();
+        }
+
+        LocalDateTime nextStart(LocalDateTime base) {
+            return base.plusMinutes(30 * nextSlot++);
+        }
+    }
+
+    @Benchmark
+    public BookingResponse createBooking(ThreadRoom room) {
+        LocalDateTime start = room.nextStart(base);
+        return bookingService.createBooking(new BookingRequest(room.roomId, "Benchmark", start, start.plusMinutes(30)));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BookingBatchResponse createBookings(ThreadRoom room) {
+        List<BookingRequest> requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            LocalDateTime start = room.nextStart(base);
+            requests.add(new BookingRequest(room.roomId, "Benchmark", start, start.plusMinutes(30)));
+        }
+        return bookingService.createBookings(requests);
+    }
+}
@@ -0,0 +1,228 @@
+package com.tomato.rising_star_2026.audit;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.event.BookingCanceled;
+import com.tomato.rising_star_2026.event.BookingCreated;
+import com.tomato.rising_star_2026.event.BookingEvent;
+import com.tomato.rising_star_2026.event.BookingEventListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only audit log of booking state changes. {@link #onBookingEvent} only puts the event
+ * into a bounded lock-free ring buffer; a background writer drains it in batches, formats each
+ * batch into one buffer and appends it to the active file with a single {@link FileChannel} write.
+ * The active file is rotated once it reaches the configured size. When the writer falls behind
+ * and the buffer is full, events are dropped and counted rather than slowing down requests.
+ */
+@Component
+public class BookingAuditLog implements BookingEventListener, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingAuditLog.class);
+
+    static final String FILE_NAME = "booking-audit.log";
+    static final String WRITTEN = "booking.audit.written";
+    static final String DROPPED = "booking.audit.dropped";
+    static final String PENDING = "booking.audit.pending";
+
+    private final BookingProperties.Audit properties;
+    private final Path directory;
+    private final RingBuffer<BookingEvent> buffer;
+    private final List<BookingEvent> batch;
+    private final StringBuilder text = new StringBuilder();
+    private final Counter written;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread writer;
+    private FileChannel channel;
+    private long fileSize;
+
+    public BookingAuditLog(BookingProperties properties, MeterRegistry registry) {
+        this.properties = properties.getAudit();
+        this.directory = Path.of(this.properties.getDirectory());
+        this.buffer = new RingBuffer<>(this.properties.getBufferSize());
+        this.batch = new ArrayList<>(this.properties.getBatchSize());
+        this.written = Counter.builder(WRITTEN)
+                .description("Booking events appended to the audit log")
+                .register(registry);
+        this.dropped = Counter.builder(DROPPED)
+                .description("Booking events dropped because the audit buffer was full or the write failed")
+                .register(registry);
+        Gauge.builder(PENDING, buffer, RingBuffer::size)
+                .description("Booking events waiting to be written to the audit log")
+                .register(registry);
+    }
+
+    @Override
+    public void onBookingEvent(BookingEvent event) {
+        if (properties.isEnabled() && !buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("booking-audit-writer").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(properties.getFlushInterval().toMillis() + 5_000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long idleNanos = properties.getFlushInterval().toNanos();
+        try {
+            while (true) {
+                boolean stopping = !running;
+                if (buffer.drain(batch::add, properties.getBatchSize()) > 0) {
+                    write(batch);
+                    batch.clear();
+                } else if (stopping) {
+                    break;
+                } else {
+                    LockSupport.parkNanos(idleNanos);
+                }
+            }
+        } finally {
+            close();
+        }
+    }
+
+    private void write(List<BookingEvent> events) {
+        text.setLength(0);
+        events.forEach(this::format);
+        ByteBuffer bytes = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            if (channel == null) {
+                open();
+            }
+            if (fileSize > 0 && fileSize + bytes.remaining() > properties.getMaxFileSize().toBytes()) {
+                rotate();
+            }
+            while (bytes.hasRemaining()) {
+                fileSize += channel.write(bytes);
+            }
+            if (properties.isFsync()) {
+                channel.force(false);
+            }
+            written.increment(events.size());
+        } catch (IOException ex) {
+            log.error("Failed to append {} events to the audit log in {}", events.size(), directory, ex);
+            dropped.increment(events.size());
+            close();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        channel = FileChannel.open(directory.resolve(FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    /**
+     * Shifts {@code booking-audit.N.log} to {@code N+1}, dropping the oldest beyond the
+     * configured number of files, and starts a fresh active file.
+     */
+    private void rotate() throws IOException {
+        close();
+        int maxFiles = properties.getMaxFiles();
+        Files.deleteIfExists(rotated(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path source = rotated(i);
+            if (Files.exists(source)) {
+                Files.move(source, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(directory.resolve(FILE_NAME), rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    private Path rotated(int generation) {
+        return directory.resolve("booking-audit." + generation + ".log");
+    }
+
+    private void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            log.warn("Failed to close the audit log in {}", directory, ex);
+        }
+        channel = null;
+    }
+
+    private void format(BookingEvent event) {
+        text.append(event.occurredAt());
+        switch (event) {
+            case BookingCreated created -> {
+                text.append(" CREATED id=").append(created.bookingId())
+                        .append(" room=").append(created.roomId())
+                        .append(" start=").append(created.startTime())
+                        .append(" end=").append(created.endTime())
+                        .append(" booker=\"");
+                appendEscaped(created.bookerName());
+                text.append('"');
+            }
+            case BookingCanceled canceled -> text.append(" CANCELED id=").append(canceled.bookingId())
+                    .append(" room=").append(canceled.roomId())
+                    .append(" start=").append(canceled.startTime())
+                    .append(" end=").append(canceled.endTime());
+        }
+        text.append('\n');
+    }
+
+    private void appendEscaped(String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"', '\\' -> text.append('\\').append(c);
+                case '\n' -> text.append("\\n");
+                case '\r' -> text.append("\\r");
+                default -> text.append(c);
+            }
+        }
+    }
+}
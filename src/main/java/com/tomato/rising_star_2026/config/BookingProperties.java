@@ -0,0 +1,408 @@
+package com.tomato.rising_star_2026.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "booking")
+public class BookingProperties {
+
+    private final OverlapIndex overlapIndex = new OverlapIndex();
+    private final Concurrency concurrency = new Concurrency();
+    private final Batch batch = new Batch();
+    private final Listing listing = new Listing();
+    private final Schedule schedule = new Schedule();
+    private final Availability availability = new Availability();
+    private final Series series = new Series();
+    private final Audit audit = new Audit();
+    private final Events events = new Events();
+    private final WarmUp warmUp = new WarmUp();
+    private final Idempotency idempotency = new Idempotency();
+    private final Engine engine = new Engine();
+    private final Rejections rejections = new Rejections();
+    private final Occupancy occupancy = new Occupancy();
+    private final RateLimit rateLimit = new RateLimit();
+    private final LoadShedding loadShedding = new LoadShedding();
+    private final Archive archive = new Archive();
+
+    @Getter
+    @Setter
+    public static class OverlapIndex {
+
+        /**
+         * Answer overlap checks from the in-memory index instead of querying the database.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Cross-check every indexed answer against the database and log any drift.
+         */
+        private boolean verify = false;
+
+        /**
+         * Rebuild rooms whose indexed intervals differ from the database during reconciliation.
+         */
+        private boolean repair = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+
+        /**
+         * How long a request waits for another booking of the same room to complete.
+         */
+        private Duration lockTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Also lock the room row in the database so that several application nodes serialize
+         * bookings of the same room. Overlap checks then always go to the database.
+         */
+        private boolean clusterLock = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * Largest number of bookings accepted by a single batch request.
+         */
+        private int maxSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Listing {
+
+        /**
+         * Page size used when a paginated listing does not ask for one.
+         */
+        private int defaultPageSize = 100;
+
+        /**
+         * Largest page size a client may ask for.
+         */
+        private int maxPageSize = 1000;
+
+        /**
+         * Tag full room listings with the room's version and answer a matching If-None-Match
+         * with 304. Versions are kept per node, so tags are never sent with the cluster lock.
+         */
+        private boolean etags = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Schedule {
+
+        /**
+         * Largest number of rooms a single schedule request may ask for.
+         */
+        private int maxRooms = 200;
+
+        /**
+         * Longest window a single schedule request may cover.
+         */
+        private Duration maxWindow = Duration.ofDays(31);
+    }
+
+    @Getter
+    @Setter
+    public static class Availability {
+
+        /**
+         * Longest window a single availability search may cover.
+         */
+        private Duration maxWindow = Duration.ofDays(31);
+    }
+
+    @Getter
+    @Setter
+    public static class Series {
+
+        /**
+         * Largest number of occurrences a single booking series may have.
+         */
+        private int maxOccurrences = 520;
+    }
+
+    @Getter
+    @Setter
+    public static class Audit {
+
+        /**
+         * Append booking state changes to the audit log.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Directory of the active and rotated audit log files.
+         */
+        private String directory = "logs/audit";
+
+        /**
+         * Number of events the in-memory buffer holds before new ones are dropped. Must be a
+         * power of two.
+         */
+        private int bufferSize = 8192;
+
+        /**
+         * Largest number of events appended with a single write.
+         */
+        private int batchSize = 512;
+
+        /**
+         * How long the writer sleeps when the buffer is empty.
+         */
+        private Duration flushInterval = Duration.ofMillis(10);
+
+        /**
+         * Size at which the active file is rotated.
+         */
+        private DataSize maxFileSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Number of rotated files kept next to the active one.
+         */
+        private int maxFiles = 10;
+
+        /**
+         * Force every written batch to disk before draining the next one.
+         */
+        private boolean fsync = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Events {
+
+        /**
+         * Deltas buffered per subscriber before a slow subscriber is disconnected.
+         */
+        private int subscriberQueueSize = 256;
+
+        /**
+         * How long an event stream stays open before the client has to reconnect.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /**
+         * How often an idle stream gets a comment line, so dead connections are noticed.
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+    }
+
+    @Getter
+    @Setter
+    public static class WarmUp {
+
+        /**
+         * Prime the connection pool, room cache and hot queries before reporting ready.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Largest number of rooms loaded into the room cache at startup.
+         */
+        private int rooms = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+
+        /**
+         * How long an idempotency key is remembered after its booking was created.
+         */
+        private Duration ttl = Duration.ofHours(24);
+
+        /**
+         * Largest number of keys kept in memory; older keys are answered from the database.
+         */
+        private long maxEntries = 100_000;
+
+        /**
+         * How often keys older than the time to live are deleted from the database.
+         */
+        private Duration purgeInterval = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Engine {
+
+        /**
+         * Queue single creates and cancels to partition threads that commit them in groups
+         * instead of running them on the request threads.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of partitions, each a thread committing the commands queued to it.
+         */
+        private int partitions = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Commands queued per partition; once it is full, new commands wait up to the timeout
+         * for space before they are rejected as busy.
+         */
+        private int queueSize = 1024;
+
+        /**
+         * Largest number of queued commands committed in one transaction.
+         */
+        private int groupSize = 64;
+
+        /**
+         * How long a request waits for its command to be committed.
+         */
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Rejections {
+
+        /**
+         * Warnings logged per kind of rejection and interval; the rest are counted and reported
+         * with the next warning that gets through.
+         */
+        private int logLimit = 10;
+
+        /**
+         * Interval the log limit applies to.
+         */
+        private Duration logInterval = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Occupancy {
+
+        /**
+         * Keep per-room occupancy bitmaps in memory to answer point-in-time occupancy checks
+         * without the database. Ignored when the cluster lock is on, as the bitmaps would only
+         * see the bookings made on this node.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Time covered by one bit; must divide a day.
+         */
+        private Duration slot = Duration.ofMinutes(5);
+
+        /**
+         * Days covered from the start of today.
+         */
+        private int days = 14;
+
+        /**
+         * How often the bitmaps are rebuilt from the database, moving the window forward and
+         * clearing slots that were only partly freed by cancels.
+         */
+        private Duration refreshInterval = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+
+        /**
+         * Hold every client to its own token bucket on booking writes.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Rate at which a client's bucket refills.
+         */
+        private double requestsPerSecond = 50;
+
+        /**
+         * Writes a client may send at once after being idle.
+         */
+        private int burst = 100;
+
+        /**
+         * Header that identifies the client, for deployments behind a gateway that sets it;
+         * without it, or when a request lacks it, clients are told apart by remote address.
+         */
+        private String clientHeader = "";
+
+        /**
+         * Size of the fixed bucket table clients are hashed onto, rounded up to a power of two.
+         */
+        private int buckets = 65536;
+    }
+
+    @Getter
+    @Setter
+    public static class LoadShedding {
+
+        /**
+         * Reject booking writes beyond an adaptive concurrency limit.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Concurrent writes allowed at startup.
+         */
+        private int initialLimit = 32;
+
+        /**
+         * Lowest value the limit shrinks to.
+         */
+        private int minLimit = 4;
+
+        /**
+         * Highest value the limit grows to.
+         */
+        private int maxLimit = 256;
+
+        /**
+         * Write latency above which the limit is cut.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+
+        /**
+         * Threads waiting for a pooled connection above which new writes are rejected and
+         * the limit is cut.
+         */
+        private int maxPoolWaiters = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+
+        /**
+         * Periodically move canceled and ended bookings to the archive table.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long an ended booking stays in the bookings table after its end time.
+         */
+        private Duration retention = Duration.ofDays(30);
+
+        /**
+         * Bookings moved per transaction.
+         */
+        private int chunkSize = 1000;
+
+        /**
+         * Largest number of chunks moved by one run; the rest is left for the next run.
+         */
+        private int maxChunksPerRun = 100;
+
+        /**
+         * Delay between the end of one archival run and the start of the next.
+         */
+        private Duration interval = Duration.ofMinutes(15);
+    }
+}
@@ -22,6 +22,10 @@ public class DataInitializer implements CommandLineRunner {
 
     @Override
     public void run(String... args) {
+        if (roomRepository.count() > 0) {
+            log.info("Rooms already present, skipping sample data");
+            return;
+        }
         log.info("Initializing sample rooms...");
 
         List<Room> rooms = List.of(
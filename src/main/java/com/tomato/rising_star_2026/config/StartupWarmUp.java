@@ -0,0 +1,109 @@
+package com.tomato.rising_star_2026.config;
+
+import com.tomato.rising_star_2026.model.BookingStatus;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primes the connection pool, the room cache and the hot query plans before the application
+ * reports itself ready, so the first requests after a restart do not pay for opening
+ * connections, loading rooms one by one and compiling queries. Failures are logged and
+ * never prevent startup.
+ */
+@Component
+public class StartupWarmUp {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmUp.class);
+
+    private final DataSource dataSource;
+    private final RoomRepository roomRepository;
+    private final BookingRepository bookingRepository;
+    private final CacheManager cacheManager;
+    private final BookingProperties.WarmUp properties;
+
+    public StartupWarmUp(DataSource dataSource, RoomRepository roomRepository, BookingRepository bookingRepository,
+                         CacheManager cacheManager, BookingProperties properties) {
+        this.dataSource = dataSource;
+        this.roomRepository = roomRepository;
+        this.bookingRepository = bookingRepository;
+        this.cacheManager = cacheManager;
+        this.properties = properties.getWarmUp();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            int connections = fillPool();
+            List<Room> rooms = roomRepository.findAll(PageRequest.of(0, properties.getRooms(), Sort.by("id")))
+                    .getContent();
+            cacheRooms(rooms);
+            primeQueries(rooms);
+            log.info("Warm-up opened {} connections and cached {} rooms in {} ms",
+                    connections, rooms.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException | SQLException ex) {
+            log.warn("Warm-up failed, continuing with a cold start", ex);
+        }
+    }
+
+    /**
+     * Holds as many connections as the pool keeps idle at the same time, so each of them is
+     * actually established, then hands them all back.
+     */
+    private int fillPool() throws SQLException {
+        int size = dataSource instanceof HikariDataSource hikari ? Math.max(hikari.getMinimumIdle(), 1) : 1;
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(1);
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        return connections.size();
+    }
+
+    private void cacheRooms(List<Room> rooms) {
+        Cache cache = cacheManager.getCache(RoomRepository.CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        rooms.forEach(room -> cache.put(room.getId(), room));
+    }
+
+    private void primeQueries(List<Room> rooms) {
+        if (rooms.isEmpty()) {
+            return;
+        }
+        Long roomId = rooms.getFirst().getId();
+        LocalDateTime now = LocalDateTime.now();
+        bookingRepository.findResponsesByRoomIdAndStatus(roomId, BookingStatus.BOOKED);
+        bookingRepository.existsOverlappingBooking(roomId, now, now.plusHours(1));
+        bookingRepository.findActiveIntervalsInWindow(List.of(roomId), now, now.plusDays(1));
+    }
+}
@@ -0,0 +1,67 @@
+package com.tomato.rising_star_2026.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long each transaction stays open, from begin to commit or rollback. Spring Boot
+ * registers every {@link TransactionExecutionListener} bean with the transaction manager.
+ */
+@Component
+public class TransactionMetricsListener implements TransactionExecutionListener {
+
+    private static final String TRANSACTION_TIMER = "booking.transaction";
+
+    private final MeterRegistry registry;
+    private final Map<TransactionExecution, Timer.Sample> running = new ConcurrentHashMap<>();
+
+    public TransactionMetricsListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null) {
+            running.put(transaction, Timer.start(registry));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        stop(transaction, commitFailure == null ? "commit" : "commit_failed");
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        stop(transaction, "rollback");
+    }
+
+    private void stop(TransactionExecution transaction, String outcome) {
+        Timer.Sample sample = running.remove(transaction);
+        if (sample == null) {
+            return;
+        }
+        sample.stop(Timer.builder(TRANSACTION_TIMER)
+                .description("Time between transaction begin and completion")
+                .tag("name", shortName(transaction.getTransactionName()))
+                .tag("read_only", String.valueOf(transaction.isReadOnly()))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private static String shortName(String transactionName) {
+        if (transactionName == null || transactionName.isEmpty()) {
+            return "unnamed";
+        }
+        int method = transactionName.lastIndexOf('.');
+        int type = method > 0 ? transactionName.lastIndexOf('.', method - 1) : -1;
+        return transactionName.substring(type + 1);
+    }
+}
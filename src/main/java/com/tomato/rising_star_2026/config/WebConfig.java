@@ -0,0 +1,21 @@
+package com.tomato.rising_star_2026.config;
+
+import com.tomato.rising_star_2026.controller.WriteAdmissionInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final WriteAdmissionInterceptor writeAdmissionInterceptor;
+
+    public WebConfig(WriteAdmissionInterceptor writeAdmissionInterceptor) {
+        this.writeAdmissionInterceptor = writeAdmissionInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(writeAdmissionInterceptor).addPathPatterns("/bookings", "/bookings/**");
+    }
+}
@@ -0,0 +1,60 @@
+package com.tomato.rising_star_2026.controller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limit on concurrent requests that adapts to how the backend copes, additive increase and
+ * multiplicative decrease: a request that completes in time while the limit is at least half
+ * used raises the limit by one, and an overloaded one cuts it by a tenth. Requests beyond the
+ * limit are turned away at once instead of queueing for a database connection.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = new AtomicInteger(Math.clamp(initialLimit, minLimit, maxLimit));
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends a request admitted by {@link #tryAcquire} and adjusts the limit to how it went.
+     */
+    void release(boolean overloaded) {
+        int current = inFlight.getAndDecrement();
+        if (overloaded) {
+            limit.updateAndGet(value -> Math.max(minLimit, (int) (value * BACKOFF)));
+        } else if (current * 2 >= limit.get()) {
+            limit.updateAndGet(value -> Math.min(maxLimit, value + 1));
+        }
+    }
+
+    int limit() {
+        return limit.get();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -1,38 +1,80 @@
 package com.tomato.rising_star_2026.controller;
 
+import com.tomato.rising_star_2026.dto.BookingBatchResponse;
+import com.tomato.rising_star_2026.dto.BookingBinaryFormat;
+import com.tomato.rising_star_2026.dto.BookingPage;
 import com.tomato.rising_star_2026.dto.BookingRequest;
 import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.dto.BookingSchedule;
 import com.tomato.rising_star_2026.service.BookingService;
+import com.tomato.rising_star_2026.service.IdempotencyStore;
+import com.tomato.rising_star_2026.service.RoomVersions;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/bookings")
 public class BookingController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final BookingService bookingService;
+    private final RoomVersions roomVersions;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, RoomVersions roomVersions,
+                             IdempotencyStore idempotencyStore, ObjectMapper objectMapper) {
         this.bookingService = bookingService;
+        this.roomVersions = roomVersions;
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping()
-    public ResponseEntity<BookingResponse> createBooking(@Valid @RequestBody BookingRequest request) {
-        BookingResponse response = bookingService.createBooking(request);
+    public ResponseEntity<BookingResponse> createBooking(
+            @Valid @RequestBody BookingRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<BookingResponse> replay = idempotencyStore.find(idempotencyKey, request);
+            if (replay.isPresent()) {
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                        .body(replay.get());
+            }
+        }
+        BookingResponse response = bookingService.createBooking(request, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BookingBatchResponse> createBookings(@RequestBody List<BookingRequest> requests) {
+        BookingBatchResponse response = bookingService.createBookings(requests);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<BookingResponse> cancelBooking(@PathVariable Long id) {
         BookingResponse response = bookingService.cancelBooking(id);
@@ -40,8 +82,78 @@ public class BookingController {
     }
 
     @GetMapping("")
-    public ResponseEntity<List<BookingResponse>> getBookingsByRoom(@RequestParam Long roomId) {
-        List<BookingResponse> bookings = bookingService.getBookingsByRoom(roomId);
-        return ResponseEntity.ok(bookings);
+    public ResponseEntity<List<BookingResponse>> getBookingsByRoom(
+            @RequestParam Long roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        if (from == null && to == null && cursor == null && limit == null) {
+            // The tag is read before the listing, so the listing is at least as new as the tag.
+            String etag = roomVersions.etag(roomId);
+            if (etag != null && webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            List<BookingResponse> bookings = bookingService.getBookingsByRoom(roomId);
+            return ResponseEntity.ok().eTag(etag).body(bookings);
+        }
+
+        BookingPage page = bookingService.getBookingsByRoom(roomId, from, to, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    /**
+     * The room's active bookings in {@link BookingBinaryFormat}, for clients that ask for it in
+     * {@code Accept}. Rows go from the database cursor straight into the encoder; the listing
+     * is not paginated, so {@code cursor} and {@code limit} do not apply.
+     */
+    @GetMapping(value = "", produces = BookingBinaryFormat.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> getBookingsByRoomBinary(
+            @RequestParam Long roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        bookingService.validateRoomWindow(roomId, from, to);
+
+        StreamingResponseBody body = outputStream -> {
+            try (BookingBinaryFormat.Writer writer = new BookingBinaryFormat.Writer(outputStream)) {
+                bookingService.streamBookingsByRoom(roomId, from, to, writer::write);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(BookingBinaryFormat.MEDIA_TYPE))
+                .body(body);
+    }
+
+    @GetMapping("/schedule")
+    public ResponseEntity<BookingSchedule> getSchedule(
+            @RequestParam List<Long> roomIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        BookingSchedule schedule = bookingService.getSchedule(roomIds, from, to);
+        return ResponseEntity.ok(schedule);
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamBookingsByRoom(
+            @RequestParam Long roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        bookingService.validateRoomWindow(roomId, from, to);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                bookingService.streamBookingsByRoom(roomId, from, to, generator::writePOJO);
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
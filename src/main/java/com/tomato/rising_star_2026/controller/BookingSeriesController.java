@@ -0,0 +1,61 @@
+package com.tomato.rising_star_2026.controller;
+
+import com.tomato.rising_star_2026.dto.BookingSeriesRequest;
+import com.tomato.rising_star_2026.dto.BookingSeriesResponse;
+import com.tomato.rising_star_2026.dto.TimeSlot;
+import com.tomato.rising_star_2026.service.BookingSeriesService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/bookings/series")
+public class BookingSeriesController {
+
+    private final BookingSeriesService bookingSeriesService;
+
+    public BookingSeriesController(BookingSeriesService bookingSeriesService) {
+        this.bookingSeriesService = bookingSeriesService;
+    }
+
+    @PostMapping()
+    public ResponseEntity<BookingSeriesResponse> createSeries(@Valid @RequestBody BookingSeriesRequest request) {
+        BookingSeriesResponse response = bookingSeriesService.createSeries(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<BookingSeriesResponse> cancelSeries(@PathVariable Long id) {
+        BookingSeriesResponse response = bookingSeriesService.cancelSeries(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/{id}/occurrences/{startTime}")
+    public ResponseEntity<BookingSeriesResponse> cancelOccurrence(
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime) {
+        BookingSeriesResponse response = bookingSeriesService.cancelOccurrence(id, startTime);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/occurrences")
+    public ResponseEntity<List<TimeSlot>> getOccurrences(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<TimeSlot> occurrences = bookingSeriesService.getOccurrences(id, from, to);
+        return ResponseEntity.ok(occurrences);
+    }
+}
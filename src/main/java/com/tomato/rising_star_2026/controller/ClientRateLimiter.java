@@ -0,0 +1,57 @@
+package com.tomato.rising_star_2026.controller;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-client token buckets in a fixed table. Each bucket is a single theoretical arrival time
+ * (the generic cell rate algorithm, equivalent to a token bucket) updated with one
+ * compare-and-set, so admission takes no lock and the table never grows however many clients
+ * show up. Clients are hashed onto buckets; the rare clients that share one also share its
+ * rate, which can only make the limit stricter for them.
+ */
+final class ClientRateLimiter {
+
+    private final AtomicLongArray arrivals;
+    private final int mask;
+    private final long interval;
+    private final long tolerance;
+    private final long origin = System.nanoTime();
+
+    ClientRateLimiter(double requestsPerSecond, int burst, int buckets) {
+        if (requestsPerSecond <= 0 || burst < 1 || buckets < 1) {
+            throw new IllegalArgumentException("Rate, burst and buckets must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(buckets - 1, 1)) << 1;
+        this.arrivals = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.interval = Math.max(1, (long) (1_000_000_000L / requestsPerSecond));
+        this.tolerance = interval * (burst - 1);
+    }
+
+    /**
+     * Takes a token from the client's bucket. Returns zero when the request is admitted and
+     * otherwise the nanoseconds until the bucket has a token again.
+     */
+    long acquire(String client) {
+        return acquire(client, System.nanoTime() - origin);
+    }
+
+    long acquire(String client, long now) {
+        int index = spread(client.hashCode()) & mask;
+        while (true) {
+            long arrival = arrivals.get(index);
+            long start = Math.max(arrival, now);
+            long wait = start - tolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrivals.compareAndSet(index, arrival, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,72 @@
+package com.tomato.rising_star_2026.controller;
+
+import com.tomato.rising_star_2026.dto.RoomAvailabilityResponse;
+import com.tomato.rising_star_2026.dto.RoomOccupancyResponse;
+import com.tomato.rising_star_2026.event.RoomEventBroadcaster;
+import com.tomato.rising_star_2026.service.BookingService;
+import com.tomato.rising_star_2026.service.RoomService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/rooms")
+public class RoomController {
+
+    private final RoomService roomService;
+    private final BookingService bookingService;
+    private final RoomEventBroadcaster roomEventBroadcaster;
+
+    public RoomController(RoomService roomService, BookingService bookingService,
+                          RoomEventBroadcaster roomEventBroadcaster) {
+        this.roomService = roomService;
+        this.bookingService = bookingService;
+        this.roomEventBroadcaster = roomEventBroadcaster;
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<List<RoomAvailabilityResponse>> getAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Duration minDuration) {
+        List<RoomAvailabilityResponse> availability = roomService.findAvailability(from, to, minDuration);
+        return ResponseEntity.ok(availability);
+    }
+
+    /**
+     * Tells whether the room is held at {@code at}, now by default, to within one occupancy
+     * slot for times inside the occupancy window.
+     */
+    @GetMapping("/{id}/occupancy")
+    public ResponseEntity<RoomOccupancyResponse> getOccupancy(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(roomService.getOccupancy(id, at));
+    }
+
+    @GetMapping("/occupancy")
+    public ResponseEntity<List<RoomOccupancyResponse>> getOccupancy(
+            @RequestParam(required = false) List<Long> roomIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(roomService.getOccupancy(roomIds, at));
+    }
+
+    /**
+     * Streams the room's schedule as server-sent events: a {@code snapshot} of the active
+     * bookings first, then a {@code created} or {@code canceled} event for every later change.
+     */
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@PathVariable Long id) {
+        return roomEventBroadcaster.subscribe(id, () -> bookingService.getBookingsByRoom(id));
+    }
+}
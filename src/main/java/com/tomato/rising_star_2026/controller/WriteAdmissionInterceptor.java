@@ -0,0 +1,132 @@
+package com.tomato.rising_star_2026.controller;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.exception.TooManyRequestsException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Admission control for booking writes, applied before the controller runs. Each client is
+ * held to its own token bucket, so one misbehaving importer cannot use up the capacity of
+ * everyone else, and all writes together are held to an adaptive concurrency limit that
+ * shrinks when writes get slow or threads start queueing for a database connection. Both
+ * reject with a fast {@code 429} rather than letting requests pile up behind the pool.
+ */
+@Component
+public class WriteAdmissionInterceptor implements HandlerInterceptor {
+
+    static final String REJECTED = "booking.admission.rejected";
+    static final String LIMIT = "booking.admission.limit";
+    static final String IN_FLIGHT = "booking.admission.in_flight";
+
+    private static final String ADMITTED_AT = WriteAdmissionInterceptor.class.getName() + ".admittedAt";
+    private static final Duration SHED_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final BookingProperties.RateLimit rateLimit;
+    private final BookingProperties.LoadShedding loadShedding;
+    private final ClientRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final DataSource dataSource;
+    private final Counter rateLimited;
+    private final Counter shed;
+
+    public WriteAdmissionInterceptor(BookingProperties properties, DataSource dataSource, MeterRegistry registry) {
+        this.rateLimit = properties.getRateLimit();
+        this.loadShedding = properties.getLoadShedding();
+        this.rateLimiter = new ClientRateLimiter(rateLimit.getRequestsPerSecond(), rateLimit.getBurst(),
+                rateLimit.getBuckets());
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(loadShedding.getInitialLimit(),
+                loadShedding.getMinLimit(), loadShedding.getMaxLimit());
+        this.dataSource = dataSource;
+        this.rateLimited = rejected(registry, "rate_limit");
+        this.shed = rejected(registry, "overload");
+        Gauge.builder(LIMIT, concurrencyLimit, AdaptiveConcurrencyLimit::limit)
+                .description("Current limit on concurrent booking writes")
+                .register(registry);
+        Gauge.builder(IN_FLIGHT, concurrencyLimit, AdaptiveConcurrencyLimit::inFlight)
+                .description("Booking writes admitted and not yet completed")
+                .register(registry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!isWrite(request)) {
+            return true;
+        }
+        if (rateLimit.isEnabled()) {
+            long wait = rateLimiter.acquire(clientOf(request));
+            if (wait > 0) {
+                rateLimited.increment();
+                throw new TooManyRequestsException("Rate limit exceeded, please retry later", Duration.ofNanos(wait));
+            }
+        }
+        if (loadShedding.isEnabled()) {
+            if (poolWaiters() > loadShedding.getMaxPoolWaiters() || !concurrencyLimit.tryAcquire()) {
+                shed.increment();
+                throw new TooManyRequestsException("Server is overloaded, please retry later", SHED_RETRY_AFTER);
+            }
+            request.setAttribute(ADMITTED_AT, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(ADMITTED_AT) instanceof Long admittedAt) {
+            request.removeAttribute(ADMITTED_AT);
+            long latency = System.nanoTime() - admittedAt;
+            concurrencyLimit.release(latency > loadShedding.getLatencyThreshold().toNanos()
+                    || poolWaiters() > loadShedding.getMaxPoolWaiters());
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        return switch (request.getMethod()) {
+            case "POST", "PUT", "PATCH", "DELETE" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * The configured client header when the request has one, otherwise the remote address.
+     */
+    private String clientOf(HttpServletRequest request) {
+        String header = rateLimit.getClientHeader();
+        if (StringUtils.hasText(header)) {
+            String client = request.getHeader(header);
+            if (StringUtils.hasText(client)) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private int poolWaiters() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool != null) {
+                return pool.getThreadsAwaitingConnection();
+            }
+        }
+        return 0;
+    }
+
+    private static Counter rejected(MeterRegistry registry, String reason) {
+        return Counter.builder(REJECTED)
+                .description("Booking writes rejected with 429 before reaching the controller")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
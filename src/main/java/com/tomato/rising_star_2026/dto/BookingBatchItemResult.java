@@ -0,0 +1,29 @@
+package com.tomato.rising_star_2026.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingBatchItemResult {
+
+    private int index;
+    private int status;
+    private BookingResponse booking;
+    private String error;
+    private String message;
+
+    public static BookingBatchItemResult created(int index, BookingResponse booking) {
+        return new BookingBatchItemResult(index, 201, booking, null, null);
+    }
+
+    public static BookingBatchItemResult rejected(int index, int status, String error, String message) {
+        return new BookingBatchItemResult(index, status, null, error, message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.tomato.rising_star_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingBatchResponse {
+
+    private int created;
+    private int rejected;
+    private List<BookingBatchItemResult> results;
+
+    public static BookingBatchResponse of(List<BookingBatchItemResult> results) {
+        int created = (int) results.stream().filter(result -> result.getBooking() != null).count();
+        return new BookingBatchResponse(created, results.size() - created, results);
+    }
+}
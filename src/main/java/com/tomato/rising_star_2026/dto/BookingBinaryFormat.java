@@ -0,0 +1,209 @@
+package com.tomato.rising_star_2026.dto;
+
+import com.tomato.rising_star_2026.model.BookingStatus;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of a booking list, an alternative to JSON for large listings.
+ *
+ * <pre>
+ * list    := 'B' 'K' 'L' version:byte booking*
+ * booking := room id:svarint booker start:svarint length:svarint status:byte
+ * room    := index:varint, followed by room-id:varint name-length:varint name:utf8
+ *            when index equals the number of rooms seen so far
+ * booker  := name-length:varint name:utf8
+ * </pre>
+ *
+ * Varints are unsigned LEB128; svarints are zigzag-encoded first. Booking ids and start times
+ * are deltas from the previous booking of the list, starting at zero, and the end time is
+ * the length of the booking. Times are epoch seconds of the booking times read as UTC, so
+ * fractions of a second are dropped. Each room's id and name are sent once and referenced
+ * by their dictionary index after that; the status is the ordinal of {@link BookingStatus}.
+ * The list ends with the stream.
+ */
+public final class BookingBinaryFormat {
+
+    public static final String MEDIA_TYPE = "application/vnd.booking-list";
+
+    private static final byte[] MAGIC = {'B', 'K', 'L'};
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 8192;
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+
+    private BookingBinaryFormat() {
+    }
+
+    /**
+     * Encodes bookings one at a time onto a buffered stream. Closing the writer flushes the
+     * buffer but leaves the underlying stream open.
+     */
+    public static final class Writer implements AutoCloseable {
+
+        private final OutputStream out;
+        private final Map<Long, Integer> rooms = new HashMap<>();
+        private long previousId;
+        private long previousStart;
+
+        public Writer(OutputStream output) {
+            this.out = new BufferedOutputStream(output, BUFFER_SIZE);
+            try {
+                out.write(MAGIC);
+                out.write(VERSION);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        public void write(BookingResponse booking) {
+            try {
+                writeRoom(booking.getRoomId(), booking.getRoomName());
+
+                long id = booking.getId();
+                writeSignedVarLong(id - previousId);
+                previousId = id;
+
+                writeString(booking.getBookerName());
+
+                long start = booking.getStartTime().toEpochSecond(ZoneOffset.UTC);
+                long end = booking.getEndTime().toEpochSecond(ZoneOffset.UTC);
+                writeSignedVarLong(start - previousStart);
+                writeSignedVarLong(end - start);
+                previousStart = start;
+
+                out.write(booking.getStatus().ordinal());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+
+        private void writeRoom(Long roomId, String roomName) throws IOException {
+            Integer index = rooms.get(roomId);
+            if (index != null) {
+                writeVarLong(index);
+                return;
+            }
+            writeVarLong(rooms.size());
+            rooms.put(roomId, rooms.size());
+            writeVarLong(roomId);
+            writeString(roomName);
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeSignedVarLong(long value) throws IOException {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+
+    /**
+     * Decodes a whole list; meant for clients and tests.
+     */
+    public static List<BookingResponse> read(InputStream input) throws IOException {
+        InputStream in = new BufferedInputStream(input, BUFFER_SIZE);
+        for (byte expected : MAGIC) {
+            if (in.read() != expected) {
+                throw new IOException("Not a booking list");
+            }
+        }
+        int version = in.read();
+        if (version != VERSION) {
+            throw new IOException("Unsupported booking list version " + version);
+        }
+
+        List<BookingResponse> bookings = new ArrayList<>();
+        List<Long> roomIds = new ArrayList<>();
+        List<String> roomNames = new ArrayList<>();
+        long id = 0;
+        long start = 0;
+        int first;
+        while ((first = in.read()) >= 0) {
+            int index = (int) readVarLong(in, first);
+            if (index == roomIds.size()) {
+                roomIds.add(readVarLong(in, in.read()));
+                roomNames.add(readString(in));
+            } else if (index > roomIds.size()) {
+                throw new IOException("Unknown room index " + index);
+            }
+
+            id += readSignedVarLong(in);
+            String bookerName = readString(in);
+            start += readSignedVarLong(in);
+            long end = start + readSignedVarLong(in);
+            int status = in.read();
+            if (status < 0 || status >= STATUSES.length) {
+                throw new IOException("Unknown status " + status);
+            }
+
+            bookings.add(new BookingResponse(id, roomIds.get(index), roomNames.get(index), bookerName,
+                    LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC),
+                    LocalDateTime.ofEpochSecond(end, 0, ZoneOffset.UTC),
+                    STATUSES[status]));
+        }
+        return bookings;
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        int length = (int) readVarLong(in, in.read());
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("Truncated booking list");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long readSignedVarLong(InputStream in) throws IOException {
+        long value = readVarLong(in, in.read());
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(InputStream in, int first) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int next = first;
+        while (true) {
+            if (next < 0) {
+                throw new EOFException("Truncated booking list");
+            }
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IOException("Malformed varint");
+            }
+            next = in.read();
+        }
+    }
+}
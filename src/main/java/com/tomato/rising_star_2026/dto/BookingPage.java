@@ -0,0 +1,6 @@
+package com.tomato.rising_star_2026.dto;
+
+import java.util.List;
+
+public record BookingPage(List<BookingResponse> items, String nextCursor) {
+}
@@ -0,0 +1,9 @@
+package com.tomato.rising_star_2026.dto;
+
+import java.util.Map;
+
+/**
+ * Schedules of several rooms within one window, keyed by room id in ascending order.
+ */
+public record BookingSchedule(Map<Long, RoomSchedule> rooms) {
+}
@@ -0,0 +1,45 @@
+package com.tomato.rising_star_2026.dto;
+
+import com.tomato.rising_star_2026.model.RecurrenceFrequency;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSeriesRequest {
+
+    @NotNull(message = "Room ID is required")
+    private Long roomId;
+
+    @NotBlank(message = "Booker name is required")
+    private String bookerName;
+
+    @NotNull(message = "Start time is required")
+    @Future(message = "Start time must be in the future")
+    private LocalDateTime startTime;
+
+    @NotNull(message = "End time is required")
+    @Future(message = "End time must be in the future")
+    private LocalDateTime endTime;
+
+    @NotNull(message = "Frequency is required")
+    private RecurrenceFrequency frequency;
+
+    @Min(value = 1, message = "Interval must be at least 1")
+    private int interval = 1;
+
+    private LocalDateTime until;
+
+    @Min(value = 1, message = "Count must be at least 1")
+    private Integer count;
+}
@@ -0,0 +1,46 @@
+package com.tomato.rising_star_2026.dto;
+
+import com.tomato.rising_star_2026.model.BookingSeries;
+import com.tomato.rising_star_2026.model.BookingStatus;
+import com.tomato.rising_star_2026.model.RecurrenceFrequency;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSeriesResponse {
+
+    private Long id;
+    private Long roomId;
+    private String roomName;
+    private String bookerName;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private RecurrenceFrequency frequency;
+    private int interval;
+    private int count;
+    private LocalDateTime lastEndTime;
+    private BookingStatus status;
+
+    public static BookingSeriesResponse fromEntity(BookingSeries series) {
+        return new BookingSeriesResponse(
+                series.getId(),
+                series.getRoom().getId(),
+                series.getRoom().getName(),
+                series.getBookerName(),
+                series.getStartTime(),
+                series.getEndTime(),
+                series.getFrequency(),
+                series.getRepeatInterval(),
+                series.getCount(),
+                series.getLastEndTime(),
+                series.getStatus()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.tomato.rising_star_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomAvailabilityResponse {
+
+    private Long roomId;
+    private String roomName;
+    private List<TimeSlot> freeSlots;
+}
@@ -0,0 +1,9 @@
+package com.tomato.rising_star_2026.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Whether a booking or series occurrence holds the room at the given time.
+ */
+public record RoomOccupancyResponse(Long roomId, LocalDateTime at, boolean occupied) {
+}
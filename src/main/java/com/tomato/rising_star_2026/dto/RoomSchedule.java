@@ -0,0 +1,27 @@
+package com.tomato.rising_star_2026.dto;
+
+import com.tomato.rising_star_2026.model.BookingInterval;
+
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * The active bookings of one room in columns: the i-th booking has id {@code ids[i]} and runs
+ * from {@code starts[i]} to {@code ends[i]}, in epoch seconds of the booking times read as
+ * UTC. Bookings are ordered by start time.
+ */
+public record RoomSchedule(long[] ids, long[] starts, long[] ends) {
+
+    public static RoomSchedule of(List<BookingInterval> intervals) {
+        long[] ids = new long[intervals.size()];
+        long[] starts = new long[intervals.size()];
+        long[] ends = new long[intervals.size()];
+        for (int i = 0; i < intervals.size(); i++) {
+            BookingInterval interval = intervals.get(i);
+            ids[i] = interval.bookingId();
+            starts[i] = interval.startTime().toEpochSecond(ZoneOffset.UTC);
+            ends[i] = interval.endTime().toEpochSecond(ZoneOffset.UTC);
+        }
+        return new RoomSchedule(ids, starts, ends);
+    }
+}
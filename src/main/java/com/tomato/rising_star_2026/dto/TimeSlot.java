@@ -0,0 +1,18 @@
+package com.tomato.rising_star_2026.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSlot {
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,21 @@
+package com.tomato.rising_star_2026.event;
+
+import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.model.Booking;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+public record BookingCanceled(Instant occurredAt, Long bookingId, Long roomId,
+                              LocalDateTime startTime, LocalDateTime endTime) implements BookingEvent {
+
+    public static BookingCanceled of(Booking booking) {
+        return new BookingCanceled(Instant.now(), booking.getId(), booking.getRoom().getId(),
+                booking.getStartTime(), booking.getEndTime());
+    }
+
+    public static BookingCanceled of(BookingResponse booking) {
+        return new BookingCanceled(Instant.now(), booking.getId(), booking.getRoomId(),
+                booking.getStartTime(), booking.getEndTime());
+    }
+}
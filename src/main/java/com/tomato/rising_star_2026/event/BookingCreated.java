@@ -0,0 +1,15 @@
+package com.tomato.rising_star_2026.event;
+
+import com.tomato.rising_star_2026.model.Booking;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+public record BookingCreated(Instant occurredAt, Long bookingId, Long roomId, String bookerName,
+                             LocalDateTime startTime, LocalDateTime endTime) implements BookingEvent {
+
+    public static BookingCreated of(Booking booking) {
+        return new BookingCreated(Instant.now(), booking.getId(), booking.getRoom().getId(),
+                booking.getBookerName(), booking.getStartTime(), booking.getEndTime());
+    }
+}
@@ -0,0 +1,16 @@
+package com.tomato.rising_star_2026.event;
+
+import java.time.Instant;
+
+/**
+ * A committed state change of a booking. Events are immutable and carry the raw values, so
+ * publishing one costs an allocation and formatting is left to whoever consumes it.
+ */
+public sealed interface BookingEvent permits BookingCreated, BookingCanceled {
+
+    Instant occurredAt();
+
+    Long bookingId();
+
+    Long roomId();
+}
@@ -0,0 +1,10 @@
+package com.tomato.rising_star_2026.event;
+
+/**
+ * Receives committed booking events. Listeners are called on the thread that committed the
+ * change, so they must hand the event off rather than do I/O.
+ */
+public interface BookingEventListener {
+
+    void onBookingEvent(BookingEvent event);
+}
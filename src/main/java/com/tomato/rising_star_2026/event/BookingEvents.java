@@ -0,0 +1,34 @@
+package com.tomato.rising_star_2026.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands every committed booking event to all {@link BookingEventListener} beans. A listener
+ * that throws is logged and skipped, so it neither keeps the event from the others nor fails
+ * the request whose booking has already committed.
+ */
+@Component
+public class BookingEvents {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingEvents.class);
+
+    private final List<BookingEventListener> listeners;
+
+    public BookingEvents(List<BookingEventListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+    }
+
+    public void publish(BookingEvent event) {
+        for (BookingEventListener listener : listeners) {
+            try {
+                listener.onBookingEvent(event);
+            } catch (RuntimeException ex) {
+                log.error("Booking event listener {} failed on {}", listener.getClass().getSimpleName(), event, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.tomato.rising_star_2026.event;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes the create and cancel deltas of a room to its server-sent event subscribers. All
+ * subscribers of a room share one set, so an event costs the committing thread one bounded
+ * queue offer per subscriber, and its JSON is written once no matter how many receive it.
+ * Each subscriber is drained by at most one virtual thread at a time, so a slow client only
+ * stalls itself; once its queue overflows it is disconnected and has to resubscribe.
+ */
+@Component
+public class RoomEventBroadcaster implements BookingEventListener, DisposableBean {
+
+    static final String SUBSCRIBERS = "booking.events.subscribers";
+    static final String EVICTIONS = "booking.events.evictions";
+
+    private static final Delta HEARTBEAT = new Delta(null, null);
+
+    private final ObjectMapper objectMapper;
+    private final BookingProperties.Events properties;
+    private final Map<Long, Set<Subscriber>> rooms = new ConcurrentHashMap<>();
+    private final ExecutorService delivery = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter evictions;
+
+    public RoomEventBroadcaster(ObjectMapper objectMapper, BookingProperties properties, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties.getEvents();
+        this.evictions = Counter.builder(EVICTIONS)
+                .description("Event stream subscribers disconnected because they fell behind")
+                .register(registry);
+        Gauge.builder(SUBSCRIBERS, subscriberCount, AtomicInteger::get)
+                .description("Open room event streams")
+                .register(registry);
+    }
+
+    public SseEmitter subscribe(Long roomId, Supplier<?> snapshot) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        subscribe(roomId, emitter, snapshot);
+        return emitter;
+    }
+
+    /**
+     * Registers the emitter and sends the snapshot as its first event. Deltas committed while
+     * the snapshot is read are queued behind it, so a change may show up both in the snapshot
+     * and as a delta but is never missed.
+     */
+    void subscribe(Long roomId, SseEmitter emitter, Supplier<?> snapshot) {
+        Subscriber subscriber = new Subscriber(roomId, emitter);
+        rooms.compute(roomId, (id, subscribers) -> {
+            Set<Subscriber> roomSubscribers = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            roomSubscribers.add(subscriber);
+            return roomSubscribers;
+        });
+        subscriberCount.incrementAndGet();
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+
+        Object current;
+        try {
+            current = snapshot.get();
+        } catch (RuntimeException ex) {
+            subscriber.close();
+            throw ex;
+        }
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(current, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException ex) {
+            subscriber.close();
+            return;
+        }
+        subscriber.start();
+    }
+
+    @Override
+    public void onBookingEvent(BookingEvent event) {
+        Set<Subscriber> subscribers = rooms.get(event.roomId());
+        if (subscribers == null) {
+            return;
+        }
+        Delta delta = new Delta(event, objectMapper);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(delta);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.events.heartbeat-interval:PT15S}",
+            initialDelayString = "${booking.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        rooms.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    @Override
+    public void destroy() {
+        rooms.values().stream()
+                .flatMap(Set::stream)
+                .toList()
+                .forEach(subscriber -> {
+                    subscriber.close();
+                    subscriber.emitter.complete();
+                });
+        delivery.close();
+    }
+
+    List<Long> roomsWithSubscribers() {
+        return List.copyOf(rooms.keySet());
+    }
+
+    /**
+     * A delta shared by every subscriber of the room. The JSON is built by the first delivery
+     * that needs it; racing deliveries at worst build the same string twice.
+     */
+    private static final class Delta {
+
+        private final BookingEvent event;
+        private final ObjectMapper objectMapper;
+        private volatile String json;
+
+        Delta(BookingEvent event, ObjectMapper objectMapper) {
+            this.event = event;
+            this.objectMapper = objectMapper;
+        }
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (event == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            String name = switch (event) {
+                case BookingCreated created -> "created";
+                case BookingCanceled canceled -> "canceled";
+            };
+            return SseEmitter.event().name(name).data(json(), MediaType.APPLICATION_JSON);
+        }
+
+        private String json() {
+            String value = json;
+            if (value == null) {
+                value = objectMapper.writeValueAsString(event);
+                json = value;
+            }
+            return value;
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long roomId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Delta> queue = new ArrayBlockingQueue<>(properties.getSubscriberQueueSize());
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean started;
+
+        Subscriber(Long roomId, SseEmitter emitter) {
+            this.roomId = roomId;
+            this.emitter = emitter;
+        }
+
+        void offer(Delta delta) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(delta)) {
+                evictions.increment();
+                close();
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        void start() {
+            started = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (started && !closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                delivery.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Delta delta;
+                while (!closed.get() && (delta = queue.poll()) != null) {
+                    emitter.send(delta.toSse());
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            schedule();
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            queue.clear();
+            subscriberCount.decrementAndGet();
+            rooms.computeIfPresent(roomId, (id, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+}
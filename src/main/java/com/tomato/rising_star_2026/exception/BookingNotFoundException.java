@@ -1,6 +1,6 @@
 package com.tomato.rising_star_2026.exception;
 
-public class BookingNotFoundException extends RuntimeException {
+public class BookingNotFoundException extends RejectionException {
 
     public BookingNotFoundException() {
         super("Booking not found");
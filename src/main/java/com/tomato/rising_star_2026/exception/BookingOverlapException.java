@@ -1,6 +1,6 @@
 package com.tomato.rising_star_2026.exception;
 
-public class BookingOverlapException extends RuntimeException {
+public class BookingOverlapException extends RejectionException {
 
     public BookingOverlapException() {
         super("Booking overlaps with an existing booking for this room");
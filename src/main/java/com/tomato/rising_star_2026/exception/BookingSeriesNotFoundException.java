@@ -0,0 +1,8 @@
+package com.tomato.rising_star_2026.exception;
+
+public class BookingSeriesNotFoundException extends RejectionException {
+
+    public BookingSeriesNotFoundException() {
+        super("Booking series not found");
+    }
+}
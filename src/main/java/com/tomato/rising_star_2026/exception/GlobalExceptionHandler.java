@@ -1,63 +1,148 @@
 package com.tomato.rising_star_2026.exception;
 
+import com.tomato.rising_star_2026.config.BookingProperties;
 import com.tomato.rising_star_2026.dto.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import tools.jackson.databind.ObjectMapper;
 
 import java.util.List;
+import java.util.Locale;
 
+/**
+ * Maps exceptions to error responses. Rejections with messages from a fixed set are answered
+ * with pre-serialized bodies and logged at a limited rate; unexpected errors are always
+ * logged with their stack trace.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final String OVERLAP_CONSTRAINT = "ex_bookings_no_overlap";
+    private static final String IDEMPOTENCY_TABLE = "idempotency_keys";
+
+    private final PreparedErrorBodies errorBodies;
+    private final RateLimitedLog rejectionLog;
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper, BookingProperties properties) {
+        this.errorBodies = new PreparedErrorBodies(objectMapper);
+        this.rejectionLog = new RateLimitedLog(log, properties.getRejections().getLogLimit(),
+                properties.getRejections().getLogInterval());
+    }
+
     @ExceptionHandler(RoomNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleRoomNotFound(RoomNotFoundException ex) {
-        log.warn("Room not found: {}", ex.getMessage());
-        ErrorResponse error = new ErrorResponse(
-                HttpStatus.NOT_FOUND.value(),
-                "Not Found",
-                ex.getMessage()
-        );
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    public ResponseEntity<byte[]> handleRoomNotFound(RoomNotFoundException ex) {
+        rejectionLog.warn("Room not found", ex.getMessage());
+        return errorBodies.respond(HttpStatus.NOT_FOUND, "Not Found", ex);
     }
 
     @ExceptionHandler(BookingNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleBookingNotFound(BookingNotFoundException ex) {
-        log.warn("Booking not found: {}", ex.getMessage());
-        ErrorResponse error = new ErrorResponse(
-                HttpStatus.NOT_FOUND.value(),
-                "Not Found",
-                ex.getMessage()
-        );
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    public ResponseEntity<byte[]> handleBookingNotFound(BookingNotFoundException ex) {
+        rejectionLog.warn("Booking not found", ex.getMessage());
+        return errorBodies.respond(HttpStatus.NOT_FOUND, "Not Found", ex);
+    }
+
+    @ExceptionHandler(BookingSeriesNotFoundException.class)
+    public ResponseEntity<byte[]> handleBookingSeriesNotFound(BookingSeriesNotFoundException ex) {
+        rejectionLog.warn("Booking series not found", ex.getMessage());
+        return errorBodies.respond(HttpStatus.NOT_FOUND, "Not Found", ex);
     }
 
     @ExceptionHandler(BookingOverlapException.class)
-    public ResponseEntity<ErrorResponse> handleBookingOverlap(BookingOverlapException ex) {
-        log.warn("Booking overlap: {}", ex.getMessage());
-        ErrorResponse error = new ErrorResponse(
-                HttpStatus.CONFLICT.value(),
-                "Conflict",
-                ex.getMessage()
-        );
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    public ResponseEntity<byte[]> handleBookingOverlap(BookingOverlapException ex) {
+        rejectionLog.warn("Booking overlap", ex.getMessage());
+        return errorBodies.respond(HttpStatus.CONFLICT, "Conflict", ex);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        rejectionLog.warn("Concurrent modification", ex.getMessage());
+        return errorBodies.respond(HttpStatus.CONFLICT, "Conflict", "Booking was modified concurrently, retry the request");
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<?> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        if (message != null && message.contains(OVERLAP_CONSTRAINT)) {
+            return handleBookingOverlap(new BookingOverlapException());
+        }
+        if (message != null && message.toLowerCase(Locale.ROOT).contains(IDEMPOTENCY_TABLE)) {
+            return handleIdempotencyKeyReuse(new IdempotencyKeyReuseException("Idempotency key is already in use"));
+        }
+        return handleGenericException(ex);
     }
 
     @ExceptionHandler(InvalidBookingTimeException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidBookingTime(InvalidBookingTimeException ex) {
-        log.warn("Invalid booking time: {}", ex.getMessage());
-        ErrorResponse error = new ErrorResponse(
-                HttpStatus.BAD_REQUEST.value(),
-                "Bad Request",
-                ex.getMessage()
-        );
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    public ResponseEntity<byte[]> handleInvalidBookingTime(InvalidBookingTimeException ex) {
+        rejectionLog.warn("Invalid booking time", ex.getMessage());
+        return errorBodies.respond(HttpStatus.BAD_REQUEST, "Bad Request", ex);
+    }
+
+    @ExceptionHandler(InvalidBatchException.class)
+    public ResponseEntity<byte[]> handleInvalidBatch(InvalidBatchException ex) {
+        rejectionLog.warn("Invalid batch", ex.getMessage());
+        return errorBodies.respond(HttpStatus.BAD_REQUEST, "Bad Request", ex);
+    }
+
+    @ExceptionHandler(InvalidSeriesException.class)
+    public ResponseEntity<byte[]> handleInvalidSeries(InvalidSeriesException ex) {
+        rejectionLog.warn("Invalid series", ex.getMessage());
+        return errorBodies.respond(HttpStatus.BAD_REQUEST, "Bad Request", ex);
+    }
+
+    @ExceptionHandler(InvalidScheduleException.class)
+    public ResponseEntity<byte[]> handleInvalidSchedule(InvalidScheduleException ex) {
+        rejectionLog.warn("Invalid schedule", ex.getMessage());
+        return errorBodies.respond(HttpStatus.BAD_REQUEST, "Bad Request", ex);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<byte[]> handleInvalidCursor(InvalidCursorException ex) {
+        rejectionLog.warn("Invalid cursor", ex.getMessage());
+        return errorBodies.respond(HttpStatus.BAD_REQUEST, "Bad Request", ex);
+    }
+
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<byte[]> handleInvalidIdempotencyKey(InvalidIdempotencyKeyException ex) {
+        rejectionLog.warn("Invalid idempotency key", ex.getMessage());
+        return errorBodies.respond(HttpStatus.BAD_REQUEST, "Bad Request", ex);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<byte[]> handleIdempotencyKeyReuse(IdempotencyKeyReuseException ex) {
+        rejectionLog.warn("Idempotency key reused", ex.getMessage());
+        return errorBodies.respond(HttpStatus.UNPROCESSABLE_CONTENT, "Unprocessable Content", ex);
+    }
+
+    @ExceptionHandler(RoomBusyException.class)
+    public ResponseEntity<byte[]> handleRoomBusy(RoomBusyException ex) {
+        rejectionLog.warn("Room busy", ex.getMessage());
+        return errorBodies.respond(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex);
+    }
+
+    /**
+     * Answers a rate-limited or shed request with {@code 429} and a {@code Retry-After} in
+     * whole seconds, rounded up.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<byte[]> handleTooManyRequests(TooManyRequestsException ex) {
+        rejectionLog.warn("Too many requests", ex.getMessage());
+        ResponseEntity<byte[]> response = errorBodies.respond(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                ex);
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response.getBody());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -68,7 +153,7 @@ public class GlobalExceptionHandler {
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
                 .toList();
 
-        log.warn("Validation failed: {}", details);
+        rejectionLog.warn("Validation failed", details);
         ErrorResponse error = new ErrorResponse(
                 HttpStatus.BAD_REQUEST.value(),
                 "Validation Failed",
@@ -0,0 +1,8 @@
+package com.tomato.rising_star_2026.exception;
+
+public class IdempotencyKeyReuseException extends RejectionException {
+
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
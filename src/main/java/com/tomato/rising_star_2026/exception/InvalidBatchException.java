@@ -0,0 +1,8 @@
+package com.tomato.rising_star_2026.exception;
+
+public class InvalidBatchException extends RejectionException {
+
+    public InvalidBatchException(String message) {
+        super(message);
+    }
+}
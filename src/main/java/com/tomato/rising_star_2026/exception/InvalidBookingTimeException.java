@@ -1,6 +1,6 @@
 package com.tomato.rising_star_2026.exception;
 
-public class InvalidBookingTimeException extends RuntimeException {
+public class InvalidBookingTimeException extends RejectionException {
 
     public InvalidBookingTimeException(String message) {
         super(message);
@@ -0,0 +1,8 @@
+package com.tomato.rising_star_2026.exception;
+
+public class InvalidCursorException extends RejectionException {
+
+    public InvalidCursorException() {
+        super("Invalid pagination cursor");
+    }
+}
@@ -0,0 +1,8 @@
+package com.tomato.rising_star_2026.exception;
+
+public class InvalidIdempotencyKeyException extends RejectionException {
+
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.tomato.rising_star_2026.exception;
+
+public class InvalidScheduleException extends RejectionException {
+
+    public InvalidScheduleException(String message) {
+        super(message);
+    }
+}
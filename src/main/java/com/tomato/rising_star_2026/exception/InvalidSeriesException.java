@@ -0,0 +1,12 @@
+package com.tomato.rising_star_2026.exception;
+
+public class InvalidSeriesException extends RejectionException {
+
+    public InvalidSeriesException(String message) {
+        super(message);
+    }
+
+    public InvalidSeriesException(String message, boolean fixedMessage) {
+        super(message, fixedMessage);
+    }
+}
@@ -0,0 +1,106 @@
+package com.tomato.rising_star_2026.exception;
+
+import com.tomato.rising_star_2026.dto.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Error bodies of rejections whose messages come from a fixed set. Each body is serialized
+ * once per status, error and message with a placeholder timestamp and split around it; only
+ * the timestamp is written per response, by the same mapper, so the bytes match a serialized
+ * {@link ErrorResponse} whatever order the mapper writes its properties in. Messages that
+ * carry request data are serialized per response and never kept.
+ */
+final class PreparedErrorBodies {
+
+    private static final int MAX_PREPARED = 256;
+
+    private static final LocalDateTime PLACEHOLDER = LocalDateTime.of(1, 1, 1, 0, 0, 0, 1);
+
+    private final ObjectMapper objectMapper;
+    private final byte[] placeholder;
+    private final Map<Key, Prepared> prepared = new ConcurrentHashMap<>();
+
+    PreparedErrorBodies(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.placeholder = objectMapper.writeValueAsBytes(PLACEHOLDER);
+    }
+
+    ResponseEntity<byte[]> respond(HttpStatus status, String error, RejectionException ex) {
+        if (!ex.hasFixedMessage()) {
+            byte[] body = objectMapper.writeValueAsBytes(new ErrorResponse(status.value(), error, ex.getMessage()));
+            return respond(status, body);
+        }
+        return respond(status, error, ex.getMessage());
+    }
+
+    /**
+     * Responds with a prepared body; the message must come from a fixed set.
+     */
+    ResponseEntity<byte[]> respond(HttpStatus status, String error, String message) {
+        Key key = new Key(status.value(), error, message);
+        Prepared body = prepared.get(key);
+        if (body == null) {
+            body = prepare(key);
+            if (body == null) {
+                return respond(status, objectMapper.writeValueAsBytes(new ErrorResponse(status.value(), error, message)));
+            }
+            if (prepared.size() < MAX_PREPARED) {
+                prepared.putIfAbsent(key, body);
+            }
+        }
+        return respond(status, body.with(objectMapper.writeValueAsBytes(LocalDateTime.now())));
+    }
+
+    private static ResponseEntity<byte[]> respond(HttpStatus status, byte[] body) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Serializes the body with the placeholder timestamp and splits it around the placeholder,
+     * or returns {@code null} if the placeholder cannot be found.
+     */
+    private Prepared prepare(Key key) {
+        ErrorResponse response = new ErrorResponse(PLACEHOLDER, key.status(), key.error(), key.message(), null);
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        int at = indexOf(json, placeholder);
+        if (at < 0) {
+            return null;
+        }
+        return new Prepared(Arrays.copyOfRange(json, 0, at), Arrays.copyOfRange(json, at + placeholder.length, json.length));
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        outer:
+        for (int i = 0; i <= bytes.length - part.length; i++) {
+            for (int j = 0; j < part.length; j++) {
+                if (bytes[i + j] != part[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private record Key(int status, String error, String message) {
+    }
+
+    private record Prepared(byte[] head, byte[] tail) {
+
+        byte[] with(byte[] timestamp) {
+            byte[] body = new byte[head.length + timestamp.length + tail.length];
+            System.arraycopy(head, 0, body, 0, head.length);
+            System.arraycopy(timestamp, 0, body, head.length, timestamp.length);
+            System.arraycopy(tail, 0, body, head.length + timestamp.length, tail.length);
+            return body;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.tomato.rising_star_2026.exception;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lets at most a fixed number of warnings per category through per interval, so a burst of
+ * rejections cannot make logging the bottleneck. The number of warnings suppressed in an
+ * interval is reported with the first warning of the next one. Categories are fixed strings.
+ */
+final class RateLimitedLog {
+
+    private final Logger log;
+    private final int limit;
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    RateLimitedLog(Logger log, int limit, Duration interval) {
+        this.log = log;
+        this.limit = limit;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    void warn(String category, Object detail) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        int suppressed = windows.computeIfAbsent(category, key -> new Window()).admit(System.nanoTime());
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed > 0) {
+            log.warn("{}: {} ({} more suppressed)", category, detail, suppressed);
+        } else {
+            log.warn("{}: {}", category, detail);
+        }
+    }
+
+    private final class Window {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long start = System.nanoTime();
+        private int logged;
+        private int suppressed;
+
+        /**
+         * Returns how many warnings were suppressed since the last one logged, or -1 if this
+         * one is suppressed.
+         */
+        int admit(long now) {
+            lock.lock();
+            try {
+                if (now - start >= intervalNanos) {
+                    start = now;
+                    logged = 0;
+                }
+                if (logged >= limit) {
+                    suppressed++;
+                    return -1;
+                }
+                logged++;
+                int reported = suppressed;
+                suppressed = 0;
+                return reported;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.tomato.rising_star_2026.exception;
+
+/**
+ * Base of the exceptions that reject a request as a client or capacity error. They are thrown
+ * at high rates under load and their stack traces are never logged, so none is captured.
+ */
+public abstract class RejectionException extends RuntimeException {
+
+    private final boolean fixedMessage;
+
+    protected RejectionException(String message) {
+        this(message, true);
+    }
+
+    /**
+     * @param fixedMessage whether the message comes from a fixed set, as opposed to carrying
+     *                     request data; only fixed messages get a prepared error body
+     */
+    protected RejectionException(String message, boolean fixedMessage) {
+        super(message, null, false, false);
+        this.fixedMessage = fixedMessage;
+    }
+
+    public boolean hasFixedMessage() {
+        return fixedMessage;
+    }
+}
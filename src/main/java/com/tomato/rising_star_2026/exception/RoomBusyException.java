@@ -0,0 +1,8 @@
+package com.tomato.rising_star_2026.exception;
+
+public class RoomBusyException extends RejectionException {
+
+    public RoomBusyException() {
+        super("Room is busy with another booking, please retry");
+    }
+}
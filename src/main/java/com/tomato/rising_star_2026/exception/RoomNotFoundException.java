@@ -1,6 +1,6 @@
 package com.tomato.rising_star_2026.exception;
 
-public class RoomNotFoundException extends RuntimeException {
+public class RoomNotFoundException extends RejectionException {
 
     public RoomNotFoundException() {
         super("Room not found");
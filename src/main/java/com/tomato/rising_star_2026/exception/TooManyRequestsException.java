@@ -0,0 +1,17 @@
+package com.tomato.rising_star_2026.exception;
+
+import java.time.Duration;
+
+public class TooManyRequestsException extends RejectionException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
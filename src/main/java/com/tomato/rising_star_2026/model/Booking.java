@@ -7,10 +7,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -18,15 +20,17 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_room_status_time", columnList = "room_id, status, start_time, end_time")
+})
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -42,6 +46,19 @@ public class Booking {
     @Enumerated(EnumType.STRING)
     private BookingStatus status = BookingStatus.BOOKED;
 
+    @Version
+    private long version;
+
+    public Booking(Long id, Room room, String bookerName, LocalDateTime startTime, LocalDateTime endTime,
+                   BookingStatus status) {
+        this.id = id;
+        this.room = room;
+        this.bookerName = bookerName;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.status = status;
+    }
+
     public Booking(Room room, String bookerName, LocalDateTime startTime, LocalDateTime endTime) {
         this.room = room;
         this.bookerName = bookerName;
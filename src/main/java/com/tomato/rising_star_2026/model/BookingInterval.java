@@ -0,0 +1,6 @@
+package com.tomato.rising_star_2026.model;
+
+import java.time.LocalDateTime;
+
+public record BookingInterval(Long bookingId, Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+}
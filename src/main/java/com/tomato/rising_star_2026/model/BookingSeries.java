@@ -0,0 +1,77 @@
+package com.tomato.rising_star_2026.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A recurring booking stored as one row. {@code startTime} and {@code endTime} are those of the
+ * first occurrence; {@code lastEndTime} is kept so window queries can skip series that ended.
+ */
+@Entity
+@Table(name = "booking_series", indexes = {
+        @Index(name = "idx_booking_series_room_status_time", columnList = "room_id, status, start_time, last_end_time")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false)
+    private Room room;
+
+    private String bookerName;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    @Enumerated(EnumType.STRING)
+    private RecurrenceFrequency frequency;
+
+    private int repeatInterval;
+
+    @Column(name = "occurrence_count")
+    private int count;
+
+    private LocalDateTime lastEndTime;
+
+    @Enumerated(EnumType.STRING)
+    private BookingStatus status = BookingStatus.BOOKED;
+
+    public BookingSeries(Room room, String bookerName, RecurrenceRule rule) {
+        this.room = room;
+        this.bookerName = bookerName;
+        this.startTime = rule.firstStart();
+        this.endTime = rule.firstEnd();
+        this.frequency = rule.frequency();
+        this.repeatInterval = rule.interval();
+        this.count = rule.count();
+        this.lastEndTime = rule.lastEnd();
+    }
+
+    public RecurrenceRule rule() {
+        return new RecurrenceRule(startTime, endTime, frequency, repeatInterval, count);
+    }
+}
@@ -0,0 +1,47 @@
+package com.tomato.rising_star_2026.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exception row of a booking series: the occurrence starting at {@code occurrenceStart} was
+ * canceled while the rest of the series stays booked.
+ */
+@Entity
+@Table(name = "booking_series_exceptions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_booking_series_exceptions", columnNames = {"series_id", "occurrence_start"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CanceledOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id", nullable = false)
+    private BookingSeries series;
+
+    private LocalDateTime occurrenceStart;
+
+    public CanceledOccurrence(BookingSeries series, LocalDateTime occurrenceStart) {
+        this.series = series;
+        this.occurrenceStart = occurrenceStart;
+    }
+}
@@ -0,0 +1,68 @@
+package com.tomato.rising_star_2026.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Booking created for an {@code Idempotency-Key}. The key is assigned by the client, so the
+ * record reports itself as new until it is stored, letting {@code save} insert it directly
+ * instead of looking it up first.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"),
+        @Index(name = "idx_idempotency_keys_booking_id", columnList = "booking_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String key;
+
+    private String requestHash;
+
+    private Long bookingId;
+
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean stored;
+
+    public IdempotencyRecord(String key, String requestHash, Long bookingId, LocalDateTime createdAt) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.bookingId = bookingId;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        stored = true;
+    }
+}
@@ -0,0 +1,6 @@
+package com.tomato.rising_star_2026.model;
+
+import java.time.LocalDateTime;
+
+public record OccurrenceKey(Long seriesId, LocalDateTime startTime) {
+}
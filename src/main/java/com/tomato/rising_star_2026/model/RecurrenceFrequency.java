@@ -0,0 +1,16 @@
+package com.tomato.rising_star_2026.model;
+
+public enum RecurrenceFrequency {
+    DAILY(1),
+    WEEKLY(7);
+
+    private final int days;
+
+    RecurrenceFrequency(int days) {
+        this.days = days;
+    }
+
+    public int getDays() {
+        return days;
+    }
+}
@@ -0,0 +1,120 @@
+package com.tomato.rising_star_2026.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Occurrences of a booking series. Occurrence {@code k} starts {@code k} periods after the
+ * first one and lasts as long as it, so the occurrences overlapping a window are located with
+ * arithmetic and only those are materialized.
+ */
+public record RecurrenceRule(LocalDateTime firstStart, LocalDateTime firstEnd, RecurrenceFrequency frequency,
+                             int interval, int count) {
+
+    /**
+     * Builds the rule from either an inclusive {@code until} bound on the occurrence start or a
+     * fixed number of occurrences.
+     */
+    public static RecurrenceRule of(LocalDateTime firstStart, LocalDateTime firstEnd, RecurrenceFrequency frequency,
+                                    int interval, LocalDateTime until, Integer count) {
+        RecurrenceRule rule = new RecurrenceRule(firstStart, firstEnd, frequency, interval, 0);
+        if (count != null) {
+            return rule.withCount(count);
+        }
+        long occurrences = until.isBefore(firstStart) ? 0 : rule.periodsBetween(firstStart, until) + 1;
+        return rule.withCount((int) Math.min(occurrences, Integer.MAX_VALUE));
+    }
+
+    public Duration period() {
+        return Duration.ofDays((long) frequency.getDays() * interval);
+    }
+
+    public Duration length() {
+        return Duration.between(firstStart, firstEnd);
+    }
+
+    public LocalDateTime startOf(long index) {
+        return firstStart.plus(period().multipliedBy(index));
+    }
+
+    public LocalDateTime lastEnd() {
+        return startOf(count - 1L).plus(length());
+    }
+
+    /**
+     * Returns the index of the occurrence starting exactly at {@code startTime}, or -1.
+     */
+    public long indexOf(LocalDateTime startTime) {
+        long index = periodsBetween(firstStart, startTime);
+        return index >= 0 && index < count && startOf(index).equals(startTime) ? index : -1;
+    }
+
+    /**
+     * Lazily expands the occurrences that overlap {@code [from, to)}, in start order.
+     */
+    public Stream<Occurrence> occurrences(LocalDateTime from, LocalDateTime to) {
+        long first = Math.max(0, periodsBetween(firstEnd, from) + 1);
+        long last = Math.min(count - 1L, periodsBetween(firstStart, to.minusNanos(1)));
+        Duration length = length();
+        return LongStream.rangeClosed(first, last).mapToObj(index -> {
+            LocalDateTime start = startOf(index);
+            return new Occurrence(index, start, start.plus(length));
+        });
+    }
+
+    /**
+     * Finds the first occurrence that overlaps one of the busy intervals, which must be ordered
+     * by start time. Both sides are converted to microsecond offsets from the first occurrence
+     * and walked once together, so the check is linear in occurrences plus intervals.
+     *
+     * @return the index of the first conflicting occurrence, or -1
+     */
+    public int firstConflict(List<BookingInterval> busy) {
+        int size = busy.size();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = ChronoUnit.MICROS.between(firstStart, busy.get(i).startTime());
+            ends[i] = ChronoUnit.MICROS.between(firstStart, busy.get(i).endTime());
+        }
+
+        long period = period().toNanos() / 1_000;
+        long length = ChronoUnit.MICROS.between(firstStart, firstEnd);
+        long reachedUntil = Long.MIN_VALUE;
+        int next = 0;
+        for (int index = 0; index < count; index++) {
+            long start = index * period;
+            long end = start + length;
+            while (next < size && starts[next] < end) {
+                reachedUntil = Math.max(reachedUntil, ends[next++]);
+            }
+            if (reachedUntil > start) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private RecurrenceRule withCount(int count) {
+        return new RecurrenceRule(firstStart, firstEnd, frequency, interval, count);
+    }
+
+    /**
+     * Whole periods from {@code from} to {@code to}, rounded towards negative infinity.
+     */
+    private long periodsBetween(LocalDateTime from, LocalDateTime to) {
+        Duration gap = Duration.between(from, to);
+        long periods = gap.dividedBy(period());
+        if (gap.isNegative() && !period().multipliedBy(periods).equals(gap)) {
+            periods--;
+        }
+        return periods;
+    }
+
+    public record Occurrence(long index, LocalDateTime startTime, LocalDateTime endTime) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.tomato.rising_star_2026.model;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@EntityListeners(RoomCacheEvictionListener.class)
 @Table(name = "rooms")
 @Getter
 @Setter
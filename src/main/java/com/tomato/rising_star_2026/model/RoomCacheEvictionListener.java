@@ -0,0 +1,51 @@
+package com.tomato.rising_star_2026.model;
+
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Drops a room from the lookup cache whenever it is updated or removed through JPA. The JPA
+ * callbacks run at flush, before the transaction commits, so the eviction waits for the
+ * commit; evicting earlier would let a concurrent lookup cache the old row again.
+ */
+public class RoomCacheEvictionListener {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public RoomCacheEvictionListener(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Room room) {
+        Long roomId = room.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(roomId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(roomId);
+            }
+        });
+    }
+
+    private void evict(Long roomId) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        if (manager == null) {
+            return;
+        }
+        Cache cache = manager.getCache(RoomRepository.CACHE_NAME);
+        if (cache != null) {
+            cache.evict(roomId);
+        }
+    }
+}
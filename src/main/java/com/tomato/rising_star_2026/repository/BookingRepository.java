@@ -1,19 +1,54 @@
 package com.tomato.rising_star_2026.repository;
 
+import com.tomato.rising_star_2026.dto.BookingResponse;
 import com.tomato.rising_star_2026.model.Booking;
+import com.tomato.rising_star_2026.model.BookingInterval;
 import com.tomato.rising_star_2026.model.BookingStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findByRoomIdAndStatus(Long roomId, BookingStatus status);
+    @Query("SELECT new com.tomato.rising_star_2026.dto.BookingResponse(" +
+           "b.id, r.id, r.name, b.bookerName, b.startTime, b.endTime, b.status) " +
+           "FROM Booking b JOIN b.room r " +
+           "WHERE r.id = :roomId " +
+           "AND b.status = :status " +
+           "ORDER BY b.startTime, b.id")
+    List<BookingResponse> findResponsesByRoomIdAndStatus(
+            @Param("roomId") Long roomId,
+            @Param("status") BookingStatus status);
+
+    @Query("SELECT new com.tomato.rising_star_2026.dto.BookingResponse(" +
+           "b.id, r.id, r.name, b.bookerName, b.startTime, b.endTime, b.status) " +
+           "FROM Booking b JOIN b.room r " +
+           "WHERE b.id = :id")
+    Optional<BookingResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * Cancels the booking if it is still booked, without loading it. Returns the number of
+     * updated rows: 0 when the booking does not exist or was already canceled.
+     */
+    @Modifying
+    @Query("UPDATE Booking b " +
+           "SET b.status = com.tomato.rising_star_2026.model.BookingStatus.CANCELED, b.version = b.version + 1 " +
+           "WHERE b.id = :id " +
+           "AND b.status = com.tomato.rising_star_2026.model.BookingStatus.BOOKED")
+    int cancelIfBooked(@Param("id") Long id);
 
     @Query("SELECT COUNT(b) > 0 FROM Booking b " +
            "WHERE b.room.id = :roomId " +
@@ -24,4 +59,87 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             @Param("roomId") Long roomId,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime);
+
+    @Query("SELECT new com.tomato.rising_star_2026.model.BookingInterval(b.id, b.room.id, b.startTime, b.endTime) " +
+           "FROM Booking b " +
+           "WHERE b.status = 'BOOKED' " +
+           "AND b.endTime > :after")
+    List<BookingInterval> findActiveIntervals(@Param("after") LocalDateTime after);
+
+    @Query("SELECT new com.tomato.rising_star_2026.model.BookingInterval(b.id, b.room.id, b.startTime, b.endTime) " +
+           "FROM Booking b " +
+           "WHERE b.room.id IN :roomIds " +
+           "AND b.status = 'BOOKED' " +
+           "AND b.startTime < :to " +
+           "AND b.endTime > :from " +
+           "ORDER BY b.room.id, b.startTime")
+    List<BookingInterval> findActiveIntervalsInWindow(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.tomato.rising_star_2026.dto.BookingResponse(" +
+           "b.id, r.id, r.name, b.bookerName, b.startTime, b.endTime, b.status) " +
+           "FROM Booking b JOIN b.room r " +
+           "WHERE r.id = :roomId " +
+           "AND b.status = 'BOOKED' " +
+           "AND b.startTime < :to " +
+           "AND b.endTime > :from " +
+           "AND (b.startTime > :afterStart OR (b.startTime = :afterStart AND b.id > :afterId)) " +
+           "ORDER BY b.startTime, b.id")
+    List<BookingResponse> findPageByRoom(
+            @Param("roomId") Long roomId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("afterStart") LocalDateTime afterStart,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.tomato.rising_star_2026.dto.BookingResponse(" +
+           "b.id, r.id, r.name, b.bookerName, b.startTime, b.endTime, b.status) " +
+           "FROM Booking b JOIN b.room r " +
+           "WHERE r.id = :roomId " +
+           "AND b.status = 'BOOKED' " +
+           "AND b.startTime < :to " +
+           "AND b.endTime > :from " +
+           "ORDER BY b.startTime, b.id")
+    Stream<BookingResponse> streamByRoom(
+            @Param("roomId") Long roomId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.tomato.rising_star_2026.model.BookingInterval(b.id, b.room.id, b.startTime, b.endTime) " +
+           "FROM Booking b " +
+           "WHERE b.status = 'BOOKED' " +
+           "AND b.startTime < :to " +
+           "AND b.endTime > :from " +
+           "ORDER BY b.room.id, b.startTime")
+    List<BookingInterval> findAllActiveIntervalsInWindow(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Canceled bookings and bookings that ended before {@code before}, oldest id first, except
+     * those any stored idempotency key points to, so a retried create keeps replaying. Expired
+     * keys are purged on their own schedule, after which their bookings become archivable.
+     */
+    @Query("SELECT new com.tomato.rising_star_2026.model.BookingInterval(b.id, b.room.id, b.startTime, b.endTime) " +
+           "FROM Booking b " +
+           "WHERE (b.status = com.tomato.rising_star_2026.model.BookingStatus.CANCELED OR b.endTime <= :before) " +
+           "AND NOT EXISTS (SELECT k FROM IdempotencyRecord k WHERE k.bookingId = b.id) " +
+           "ORDER BY b.id")
+    List<BookingInterval> findArchivable(@Param("before") LocalDateTime before, Limit limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO bookings_archive " +
+                   "(id, room_id, booker_name, start_time, end_time, status, version, archived_at) " +
+                   "SELECT id, room_id, booker_name, start_time, end_time, status, version, :archivedAt " +
+                   "FROM bookings WHERE id IN (:ids)",
+           nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,35 @@
+package com.tomato.rising_star_2026.repository;
+
+import com.tomato.rising_star_2026.model.BookingSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BookingSeriesRepository extends JpaRepository<BookingSeries, Long> {
+
+    @Query("SELECT s FROM BookingSeries s " +
+           "WHERE s.room.id IN :roomIds " +
+           "AND s.status = 'BOOKED' " +
+           "AND s.startTime < :to " +
+           "AND s.lastEndTime > :from " +
+           "ORDER BY s.room.id, s.id")
+    List<BookingSeries> findActiveInWindow(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query("SELECT s FROM BookingSeries s " +
+           "WHERE s.status = 'BOOKED' " +
+           "AND s.startTime < :to " +
+           "AND s.lastEndTime > :from " +
+           "ORDER BY s.room.id, s.id")
+    List<BookingSeries> findAllActiveInWindow(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,26 @@
+package com.tomato.rising_star_2026.repository;
+
+import com.tomato.rising_star_2026.model.CanceledOccurrence;
+import com.tomato.rising_star_2026.model.OccurrenceKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CanceledOccurrenceRepository extends JpaRepository<CanceledOccurrence, Long> {
+
+    @Query("SELECT new com.tomato.rising_star_2026.model.OccurrenceKey(c.series.id, c.occurrenceStart) " +
+           "FROM CanceledOccurrence c " +
+           "WHERE c.series.id IN :seriesIds " +
+           "AND c.occurrenceStart < :to")
+    List<OccurrenceKey> findKeysBefore(
+            @Param("seriesIds") Collection<Long> seriesIds,
+            @Param("to") LocalDateTime to);
+
+    boolean existsBySeriesIdAndOccurrenceStart(Long seriesId, LocalDateTime occurrenceStart);
+}
@@ -0,0 +1,128 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.model.BookingInterval;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves canceled bookings and bookings that have ended out of {@code bookings} into
+ * {@code bookings_archive}, so the hot table and its indexes only hold current and future
+ * bookings. Rows are moved in chunks of bounded size, each copied and deleted in its own
+ * transaction, so a run never holds many row locks or one long transaction, and an
+ * interrupted run keeps the chunks it already committed. Once a chunk commits, its bookings
+ * are dropped from the overlap index and the versions of their rooms are bumped.
+ */
+@Component
+public class BookingArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingArchiver.class);
+
+    static final String ARCHIVED = "booking.archive.rows";
+    static final String RUN_TIMER = "booking.archive.run";
+
+    private final BookingRepository bookingRepository;
+    private final RoomIntervalIndex roomIntervalIndex;
+    private final RoomVersions roomVersions;
+    private final BookingProperties.Archive properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archived;
+    private final Timer runs;
+
+    public BookingArchiver(BookingRepository bookingRepository, RoomIntervalIndex roomIntervalIndex,
+                           RoomVersions roomVersions, PlatformTransactionManager transactionManager,
+                           BookingProperties properties, MeterRegistry registry) {
+        this.bookingRepository = bookingRepository;
+        this.roomIntervalIndex = roomIntervalIndex;
+        this.roomVersions = roomVersions;
+        this.properties = properties.getArchive();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setName("BookingArchiver.archiveChunk");
+        this.archived = Counter.builder(ARCHIVED)
+                .description("Bookings moved to the archive table")
+                .register(registry);
+        this.runs = Timer.builder(RUN_TIMER)
+                .description("Time spent in one archival run")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.archive.interval:PT15M}",
+            initialDelayString = "${booking.archive.interval:PT15M}")
+    public void scheduledArchive() {
+        if (properties.isEnabled()) {
+            archive();
+        }
+    }
+
+    /**
+     * Archives chunk after chunk until no archivable booking is left or the run has moved
+     * {@code max-chunks-per-run} chunks. Returns the number of bookings moved.
+     */
+    public int archive() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getRetention());
+        Timer.Sample sample = Timer.start();
+        int moved = 0;
+        try {
+            for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+                Integer count = transactionTemplate.execute(status -> archiveChunk(before));
+                if (count == null || count == 0) {
+                    break;
+                }
+                moved += count;
+            }
+        } finally {
+            sample.stop(runs);
+        }
+        if (moved > 0) {
+            log.info("Archived {} bookings that were canceled or ended before {}", moved, before);
+        }
+        return moved;
+    }
+
+    private int archiveChunk(LocalDateTime before) {
+        List<BookingInterval> chunk = bookingRepository.findArchivable(before, Limit.of(properties.getChunkSize()));
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = chunk.stream().map(BookingInterval::bookingId).toList();
+        bookingRepository.copyToArchive(ids, LocalDateTime.now());
+        int deleted = bookingRepository.deleteAllByIdIn(ids);
+
+        Set<Long> roomIds = chunk.stream().map(BookingInterval::roomId).collect(Collectors.toSet());
+        afterCommit(() -> {
+            archived.increment(deleted);
+            chunk.forEach(interval -> roomIntervalIndex.remove(interval.roomId(), interval.bookingId(), interval.startTime()));
+            roomIds.forEach(roomVersions::invalidate);
+        });
+        return deleted;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,345 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.exception.RoomBusyException;
+import com.tomato.rising_star_2026.model.BookingInterval;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Optional group commit of single booking creates and cancels. Commands are queued to a
+ * fixed number of partitions, creates by room and cancels by booking id; each partition runs
+ * the commands it drains from its queue one after another and commits them in one
+ * transaction, so a commit is paid once per group instead of once per command. Partitions
+ * do not own their rooms: a group takes the same room locks as batch and series creates and
+ * checks overlaps against the shared index, so the engine saves commits but does not remove
+ * lock contention. A group that fails to commit is retried one command per transaction, so
+ * one bad command cannot fail the others.
+ */
+@Component
+public class BookingEngine implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingEngine.class);
+
+    static final String GROUP_SIZE = "booking.engine.group.size";
+    static final String QUEUED = "booking.engine.queued";
+
+    private static final long POLL_MILLIS = 100;
+
+    private final BookingProperties.Engine properties;
+    private final BookingProperties.Concurrency concurrency;
+    private final RoomLockRegistry roomLockRegistry;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary groupSizes;
+    private final List<Partition> partitions = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public BookingEngine(BookingProperties properties, RoomLockRegistry roomLockRegistry,
+                         RoomRepository roomRepository, PlatformTransactionManager transactionManager,
+                         MeterRegistry registry) {
+        this.properties = properties.getEngine();
+        this.concurrency = properties.getConcurrency();
+        this.roomLockRegistry = roomLockRegistry;
+        this.roomRepository = roomRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setName("BookingEngine.commit");
+        this.groupSizes = DistributionSummary.builder(GROUP_SIZE)
+                .description("Commands committed together by one engine partition")
+                .register(registry);
+        if (this.properties.isEnabled()) {
+            for (int i = 0; i < this.properties.getPartitions(); i++) {
+                partitions.add(new Partition(i));
+            }
+            Gauge.builder(QUEUED, partitions, all -> all.stream().mapToInt(p -> p.queue.size()).sum())
+                    .description("Commands waiting in engine partition queues")
+                    .register(registry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Runs the task on the partition the room hashes to, inside that partition's group
+     * transaction, and waits for the group to commit. Exceptions thrown by the task are
+     * rethrown to the caller; a stopped engine, or a queue that stays full or a group that
+     * does not commit within the timeout, is reported as a busy room.
+     */
+    public <T> T submit(Long roomId, Function<Pending, T> task) {
+        return submit(roomId, new Command<>(roomId, task));
+    }
+
+    /**
+     * Runs a task that changes one existing booking without taking a room lock, on the
+     * partition the booking id hashes to.
+     */
+    public <T> T submitForBooking(Long bookingId, Function<Pending, T> task) {
+        return submit(bookingId, new Command<>(null, task));
+    }
+
+    private <T> T submit(Long key, Command<T> command) {
+        Partition partition = partitions.get(Math.floorMod(Objects.hashCode(key), partitions.size()));
+        if (!running) {
+            throw new RoomBusyException();
+        }
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        try {
+            if (!partition.queue.offer(command, properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new RoomBusyException();
+            }
+            return command.future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new RoomBusyException();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RoomBusyException();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Booking command failed", ex.getCause());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!isEnabled() || running) {
+            return;
+        }
+        running = true;
+        partitions.forEach(partition ->
+                partition.thread = Thread.ofPlatform().name("booking-engine-" + partition.index).start(partition));
+        log.info("Booking engine started with {} partitions", partitions.size());
+    }
+
+    /**
+     * Stops taking commands and lets every partition finish the commands already queued.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Partition partition : partitions) {
+            try {
+                partition.thread.join(properties.getTimeout().toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server, so requests that are still being served can finish.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void execute(List<Command<?>> group) {
+        try {
+            commit(group);
+        } catch (RuntimeException ex) {
+            if (group.size() == 1) {
+                group.getFirst().fail(ex);
+                return;
+            }
+            log.debug("Group of {} booking commands failed to commit, retrying one by one", group.size(), ex);
+            group.forEach(command -> execute(List.<Command<?>>of(command)));
+        }
+    }
+
+    /**
+     * Runs the group in one transaction, holding the room locks from before it begins. A
+     * callback that fails after the commit does not undo it, so the group is then completed as
+     * committed rather than retried, which would run its commands a second time.
+     */
+    private void commit(List<Command<?>> group) {
+        Pending pending = new Pending();
+        CommitMarker marker = new CommitMarker();
+        try {
+            roomLockRegistry.withLocks(group.stream().map(Command::roomId).toList(), () -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    TransactionSynchronizationManager.registerSynchronization(marker);
+                    lockRooms(group);
+                    group.forEach(command -> command.run(pending));
+                });
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            if (!marker.committed) {
+                throw ex;
+            }
+            log.error("A callback of a committed group of {} booking commands failed", group.size(), ex);
+        }
+        group.forEach(Command::complete);
+    }
+
+    /**
+     * Takes the room locks of the whole group in room order before any command runs, the same
+     * order batch creates use, so a group and a batch never wait on each other in a cycle.
+     */
+    private void lockRooms(List<Command<?>> group) {
+        Set<Long> roomIds = new TreeSet<>();
+        group.stream().map(Command::roomId).filter(Objects::nonNull).forEach(roomIds::add);
+        roomIds.forEach(roomLockRegistry::lockUntilCompletion);
+        if (concurrency.isClusterLock() && !roomIds.isEmpty()) {
+            roomRepository.findAllByIdForUpdate(roomIds);
+        }
+    }
+
+    /**
+     * Bookings created by earlier commands of the group being committed. They are not in the
+     * overlap index until the group commits, so later commands of the group check them here.
+     */
+    public static final class Pending {
+
+        private final Map<Long, List<BookingInterval>> byRoom = new HashMap<>();
+
+        public boolean overlaps(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+            for (BookingInterval interval : byRoom.getOrDefault(roomId, List.of())) {
+                if (interval.startTime().isBefore(endTime) && interval.endTime().isAfter(startTime)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public void add(BookingInterval interval) {
+            byRoom.computeIfAbsent(interval.roomId(), id -> new ArrayList<>()).add(interval);
+        }
+    }
+
+    /**
+     * Records that the group transaction committed. It runs before every other after-commit
+     * callback, so it is set even when one of those throws.
+     */
+    private static final class CommitMarker implements TransactionSynchronization {
+
+        private boolean committed;
+
+        @Override
+        public void afterCommit() {
+            committed = true;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    private static final class Command<T> {
+
+        private final Long roomId;
+        private final Function<Pending, T> task;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T result;
+        private RuntimeException failure;
+
+        Command(Long roomId, Function<Pending, T> task) {
+            this.roomId = roomId;
+            this.task = task;
+        }
+
+        Long roomId() {
+            return roomId;
+        }
+
+        void run(Pending pending) {
+            result = null;
+            failure = null;
+            try {
+                result = task.apply(pending);
+            } catch (RuntimeException ex) {
+                failure = ex;
+            }
+        }
+
+        /**
+         * Reports the command's own failure rather than the rollback it caused, if it failed.
+         */
+        void fail(RuntimeException commitFailure) {
+            future.completeExceptionally(failure != null ? failure : commitFailure);
+        }
+
+        void complete() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+
+    private final class Partition implements Runnable {
+
+        private final int index;
+        private final BlockingQueue<Command<?>> queue = new ArrayBlockingQueue<>(properties.getQueueSize());
+        private Thread thread;
+
+        Partition(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            List<Command<?>> group = new ArrayList<>(properties.getGroupSize());
+            while (running || !queue.isEmpty()) {
+                Command<?> first;
+                try {
+                    first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, properties.getGroupSize() - 1);
+                groupSizes.record(group.size());
+                execute(group);
+                group.clear();
+            }
+        }
+    }
+}
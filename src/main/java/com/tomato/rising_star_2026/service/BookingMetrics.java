@@ -0,0 +1,90 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.exception.BookingNotFoundException;
+import com.tomato.rising_star_2026.exception.BookingOverlapException;
+import com.tomato.rising_star_2026.exception.BookingSeriesNotFoundException;
+import com.tomato.rising_star_2026.exception.IdempotencyKeyReuseException;
+import com.tomato.rising_star_2026.exception.InvalidBatchException;
+import com.tomato.rising_star_2026.exception.InvalidBookingTimeException;
+import com.tomato.rising_star_2026.exception.InvalidCursorException;
+import com.tomato.rising_star_2026.exception.InvalidIdempotencyKeyException;
+import com.tomato.rising_star_2026.exception.InvalidScheduleException;
+import com.tomato.rising_star_2026.exception.InvalidSeriesException;
+import com.tomato.rising_star_2026.exception.RoomBusyException;
+import com.tomato.rising_star_2026.exception.RoomNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Timers and counters of the booking operations. Tags are limited to the operation and a small
+ * set of outcomes, so the number of series stays bounded however many rooms there are. The
+ * room of each overlap rejection is logged instead of tagged.
+ */
+@Component
+public class BookingMetrics {
+
+    static final String OPERATION_TIMER = "booking.operation";
+    static final String OVERLAP_REJECTIONS = "booking.overlap.rejections";
+
+    private static final Logger log = LoggerFactory.getLogger(BookingMetrics.class);
+
+    private final MeterRegistry registry;
+    private final Counter overlapRejections;
+
+    public BookingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.overlapRejections = Counter.builder(OVERLAP_REJECTIONS)
+                .description("Bookings rejected because they overlap an existing booking")
+                .register(registry);
+    }
+
+    public <T> T record(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        try {
+            return action.get();
+        } catch (RuntimeException ex) {
+            outcome = outcome(ex);
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(OPERATION_TIMER)
+                    .description("Time spent in booking operations")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    public void overlapRejected(Long roomId) {
+        overlapRejections.increment();
+        log.info("Booking rejected for room {} because it overlaps an existing booking", roomId);
+    }
+
+    private static String outcome(RuntimeException ex) {
+        if (ex instanceof BookingOverlapException || ex instanceof OptimisticLockingFailureException) {
+            return "conflict";
+        }
+        if (ex instanceof RoomNotFoundException || ex instanceof BookingNotFoundException
+                || ex instanceof BookingSeriesNotFoundException) {
+            return "not_found";
+        }
+        if (ex instanceof InvalidBookingTimeException || ex instanceof InvalidBatchException
+                || ex instanceof InvalidCursorException || ex instanceof InvalidSeriesException
+                || ex instanceof InvalidScheduleException
+                || ex instanceof InvalidIdempotencyKeyException || ex instanceof IdempotencyKeyReuseException) {
+            return "invalid";
+        }
+        if (ex instanceof RoomBusyException) {
+            return "busy";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,161 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.model.BookingInterval;
+import com.tomato.rising_star_2026.model.BookingSeries;
+import com.tomato.rising_star_2026.model.OccurrenceKey;
+import com.tomato.rising_star_2026.model.RecurrenceRule;
+import com.tomato.rising_star_2026.repository.BookingSeriesRepository;
+import com.tomato.rising_star_2026.repository.CanceledOccurrenceRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Expands booking series into intervals so they can be checked and swept together with single
+ * bookings. Only series that overlap the window are loaded, and only their occurrences inside
+ * the window are materialized. Expanded occurrences carry no booking id.
+ *
+ * <p>For the overlap check of single creates, each room's active series and their canceled
+ * occurrences are also kept in memory once read. Series writes call {@link #invalidate} after
+ * they commit; a room read while such a write committed is tagged with the generation it was
+ * read under and discarded once the generation moves on.
+ */
+@Component
+public class BookingSeriesCalendar {
+
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    private static final Comparator<BookingInterval> ORDER = Comparator
+            .comparing(BookingInterval::roomId)
+            .thenComparing(BookingInterval::startTime);
+
+    private final BookingSeriesRepository bookingSeriesRepository;
+    private final CanceledOccurrenceRepository canceledOccurrenceRepository;
+    private final Map<Long, RoomSeries> rooms = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public BookingSeriesCalendar(BookingSeriesRepository bookingSeriesRepository,
+                                 CanceledOccurrenceRepository canceledOccurrenceRepository) {
+        this.bookingSeriesRepository = bookingSeriesRepository;
+        this.canceledOccurrenceRepository = canceledOccurrenceRepository;
+    }
+
+    public boolean hasOverlap(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        return !occurrencesInWindow(List.of(roomId), startTime, endTime).isEmpty();
+    }
+
+    /**
+     * Same as {@link #hasOverlap}, answered from the room's series in memory. Only the first
+     * check of a room after it was invalidated reads the database.
+     */
+    public boolean hasCachedOverlap(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        long generation = generation(roomId);
+        RoomSeries series = rooms.get(roomId);
+        if (series == null || series.generation() != generation) {
+            series = read(roomId, generation);
+            rooms.put(roomId, series);
+        }
+        return series.overlaps(startTime, endTime);
+    }
+
+    /**
+     * Drops the room's series from memory after a series write for the room has committed.
+     */
+    public void invalidate(Long roomId) {
+        generations.computeIfAbsent(roomId, id -> new AtomicLong()).incrementAndGet();
+        rooms.remove(roomId);
+    }
+
+    private long generation(Long roomId) {
+        AtomicLong generation = generations.get(roomId);
+        return generation != null ? generation.get() : 0;
+    }
+
+    private RoomSeries read(Long roomId, long generation) {
+        List<BookingSeries> series = bookingSeriesRepository.findActiveInWindow(
+                List.of(roomId), LocalDateTime.now(), MAX_TIME);
+        if (series.isEmpty()) {
+            return new RoomSeries(generation, List.of(), Set.of());
+        }
+        Set<OccurrenceKey> canceled = Set.copyOf(canceledOccurrenceRepository.findKeysBefore(
+                series.stream().map(BookingSeries::getId).toList(), MAX_TIME));
+        List<SeriesRule> rules = series.stream()
+                .map(entry -> new SeriesRule(entry.getId(), entry.rule()))
+                .toList();
+        return new RoomSeries(generation, rules, canceled);
+    }
+
+    /**
+     * Returns the booked occurrences of the given rooms' series that overlap {@code [from, to)},
+     * ordered by room and start time.
+     */
+    public List<BookingInterval> occurrencesInWindow(Collection<Long> roomIds, LocalDateTime from, LocalDateTime to) {
+        return expand(bookingSeriesRepository.findActiveInWindow(roomIds, from, to), from, to);
+    }
+
+    /**
+     * Same as {@link #occurrencesInWindow} for every room.
+     */
+    public List<BookingInterval> allOccurrencesInWindow(LocalDateTime from, LocalDateTime to) {
+        return expand(bookingSeriesRepository.findAllActiveInWindow(from, to), from, to);
+    }
+
+    /**
+     * Merges occurrences into intervals that are already ordered by room and start time.
+     */
+    public static List<BookingInterval> merge(List<BookingInterval> intervals, List<BookingInterval> occurrences) {
+        if (occurrences.isEmpty()) {
+            return intervals;
+        }
+        List<BookingInterval> merged = new ArrayList<>(intervals.size() + occurrences.size());
+        merged.addAll(intervals);
+        merged.addAll(occurrences);
+        merged.sort(ORDER);
+        return merged;
+    }
+
+    private List<BookingInterval> expand(List<BookingSeries> series, LocalDateTime from, LocalDateTime to) {
+        if (series.isEmpty()) {
+            return List.of();
+        }
+        Set<OccurrenceKey> canceled = new HashSet<>(canceledOccurrenceRepository.findKeysBefore(
+                series.stream().map(BookingSeries::getId).toList(), to));
+
+        List<BookingInterval> occurrences = new ArrayList<>();
+        for (BookingSeries entry : series) {
+            Long roomId = entry.getRoom().getId();
+            entry.rule().occurrences(from, to)
+                    .filter(occurrence -> !canceled.contains(new OccurrenceKey(entry.getId(), occurrence.startTime())))
+                    .forEach(occurrence -> occurrences.add(
+                            new BookingInterval(null, roomId, occurrence.startTime(), occurrence.endTime())));
+        }
+        occurrences.sort(ORDER);
+        return occurrences;
+    }
+
+    private record SeriesRule(Long seriesId, RecurrenceRule rule) {
+    }
+
+    private record RoomSeries(long generation, List<SeriesRule> series, Set<OccurrenceKey> canceled) {
+
+        boolean overlaps(LocalDateTime startTime, LocalDateTime endTime) {
+            for (SeriesRule entry : series) {
+                boolean booked = entry.rule().occurrences(startTime, endTime)
+                        .anyMatch(occurrence -> !canceled.contains(new OccurrenceKey(entry.seriesId(), occurrence.startTime())));
+                if (booked) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.dto.BookingSeriesRequest;
+import com.tomato.rising_star_2026.dto.BookingSeriesResponse;
+import com.tomato.rising_star_2026.dto.TimeSlot;
+import com.tomato.rising_star_2026.exception.BookingOverlapException;
+import com.tomato.rising_star_2026.exception.BookingSeriesNotFoundException;
+import com.tomato.rising_star_2026.exception.InvalidBookingTimeException;
+import com.tomato.rising_star_2026.exception.InvalidSeriesException;
+import com.tomato.rising_star_2026.exception.RoomNotFoundException;
+import com.tomato.rising_star_2026.model.BookingInterval;
+import com.tomato.rising_star_2026.model.BookingSeries;
+import com.tomato.rising_star_2026.model.BookingStatus;
+import com.tomato.rising_star_2026.model.CanceledOccurrence;
+import com.tomato.rising_star_2026.model.OccurrenceKey;
+import com.tomato.rising_star_2026.model.RecurrenceRule;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.BookingSeriesRepository;
+import com.tomato.rising_star_2026.repository.CanceledOccurrenceRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Transactional
+public class BookingSeriesService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingSeriesService.class);
+
+    private final BookingSeriesRepository bookingSeriesRepository;
+    private final CanceledOccurrenceRepository canceledOccurrenceRepository;
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+    private final BookingSeriesCalendar bookingSeriesCalendar;
+    private final RoomLockRegistry roomLockRegistry;
+    private final BookingMetrics bookingMetrics;
+    private final RoomOccupancy roomOccupancy;
+    private final TransactionTemplate createTransaction;
+    private final BookingProperties.Concurrency concurrency;
+    private final BookingProperties.Series series;
+
+    public BookingSeriesService(BookingSeriesRepository bookingSeriesRepository,
+                                CanceledOccurrenceRepository canceledOccurrenceRepository,
+                                BookingRepository bookingRepository, RoomRepository roomRepository,
+                                BookingSeriesCalendar bookingSeriesCalendar, RoomLockRegistry roomLockRegistry,
+                                BookingMetrics bookingMetrics, RoomOccupancy roomOccupancy,
+                                PlatformTransactionManager transactionManager, BookingProperties properties) {
+        this.bookingSeriesRepository = bookingSeriesRepository;
+        this.canceledOccurrenceRepository = canceledOccurrenceRepository;
+        this.bookingRepository = bookingRepository;
+        this.roomRepository = roomRepository;
+        this.bookingSeriesCalendar = bookingSeriesCalendar;
+        this.roomLockRegistry = roomLockRegistry;
+        this.bookingMetrics = bookingMetrics;
+        this.roomOccupancy = roomOccupancy;
+        this.createTransaction = new TransactionTemplate(transactionManager);
+        this.createTransaction.setName("BookingSeriesService.createSeries");
+        this.concurrency = properties.getConcurrency();
+        this.series = properties.getSeries();
+    }
+
+    /**
+     * Stores a recurring booking as one row. The room's single bookings and the occurrences of
+     * its other series between the first start and the last end are read with one query each
+     * and swept once against every occurrence of the new series. The room lock is taken before
+     * the transaction begins, so waiting for it holds no connection.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingSeriesResponse createSeries(BookingSeriesRequest request) {
+        return bookingMetrics.record("series_create", () -> roomLockRegistry.withLocks(
+                Collections.singleton(request.getRoomId()), () -> createTransaction.execute(status -> create(request))));
+    }
+
+    private BookingSeriesResponse create(BookingSeriesRequest request) {
+        log.debug("Creating {} series for room {} from {} to {}",
+                request.getFrequency(), request.getRoomId(), request.getStartTime(), request.getEndTime());
+
+        RecurrenceRule rule = validate(request);
+
+        Room room = roomRepository.findById(request.getRoomId())
+                .orElseThrow(RoomNotFoundException::new);
+        roomLockRegistry.lockUntilCompletion(room.getId());
+        if (concurrency.isClusterLock()) {
+            roomRepository.findByIdForUpdate(room.getId());
+        }
+
+        List<Long> roomIds = List.of(room.getId());
+        List<BookingInterval> busy = BookingSeriesCalendar.merge(
+                bookingRepository.findActiveIntervalsInWindow(roomIds, rule.firstStart(), rule.lastEnd()),
+                bookingSeriesCalendar.occurrencesInWindow(roomIds, rule.firstStart(), rule.lastEnd()));
+        int conflict = rule.firstConflict(busy);
+        if (conflict >= 0) {
+            log.debug("Series occurrence starting {} overlaps an existing booking", rule.startOf(conflict));
+            bookingMetrics.overlapRejected(room.getId());
+            throw new BookingOverlapException();
+        }
+
+        BookingSeries saved = bookingSeriesRepository.save(new BookingSeries(room, request.getBookerName(), rule));
+        afterCommit(() -> seriesChanged(room.getId()));
+        log.debug("Booking series created with id {} and {} occurrences", saved.getId(), saved.getCount());
+        return BookingSeriesResponse.fromEntity(saved);
+    }
+
+    public BookingSeriesResponse cancelSeries(Long seriesId) {
+        return bookingMetrics.record("series_cancel", () -> {
+            BookingSeries entry = bookingSeriesRepository.findById(seriesId)
+                    .orElseThrow(BookingSeriesNotFoundException::new);
+            entry.setStatus(BookingStatus.CANCELED);
+            BookingSeriesResponse response = BookingSeriesResponse.fromEntity(bookingSeriesRepository.save(entry));
+            afterCommit(() -> seriesChanged(response.getRoomId()));
+            return response;
+        });
+    }
+
+    /**
+     * Cancels one occurrence by recording an exception row; the series itself is unchanged.
+     * Canceling the same occurrence again has no effect.
+     */
+    public BookingSeriesResponse cancelOccurrence(Long seriesId, LocalDateTime occurrenceStart) {
+        return bookingMetrics.record("occurrence_cancel", () -> {
+            BookingSeries entry = bookingSeriesRepository.findById(seriesId)
+                    .orElseThrow(BookingSeriesNotFoundException::new);
+            if (entry.rule().indexOf(occurrenceStart) < 0) {
+                throw new InvalidSeriesException("No occurrence of the series starts at " + occurrenceStart, false);
+            }
+            if (!canceledOccurrenceRepository.existsBySeriesIdAndOccurrenceStart(seriesId, occurrenceStart)) {
+                canceledOccurrenceRepository.save(new CanceledOccurrence(entry, occurrenceStart));
+            }
+            BookingSeriesResponse response = BookingSeriesResponse.fromEntity(entry);
+            afterCommit(() -> seriesChanged(response.getRoomId()));
+            return response;
+        });
+    }
+
+    /**
+     * Returns the booked occurrences of the series that overlap {@code [from, to)}. Open window
+     * ends default to the series' first start and last end; only the occurrences inside the
+     * window are expanded.
+     */
+    @Transactional(readOnly = true)
+    public List<TimeSlot> getOccurrences(Long seriesId, LocalDateTime from, LocalDateTime to) {
+        BookingSeries entry = bookingSeriesRepository.findById(seriesId)
+                .orElseThrow(BookingSeriesNotFoundException::new);
+        LocalDateTime windowFrom = from != null ? from : entry.getStartTime();
+        LocalDateTime windowTo = to != null ? to : entry.getLastEndTime();
+        if (!windowFrom.isBefore(windowTo)) {
+            throw new InvalidBookingTimeException("From must be before to");
+        }
+        if (entry.getStatus() == BookingStatus.CANCELED) {
+            return List.of();
+        }
+
+        Set<OccurrenceKey> canceled = new HashSet<>(
+                canceledOccurrenceRepository.findKeysBefore(List.of(seriesId), windowTo));
+        return entry.rule().occurrences(windowFrom, windowTo)
+                .filter(occurrence -> !canceled.contains(new OccurrenceKey(seriesId, occurrence.startTime())))
+                .map(occurrence -> new TimeSlot(occurrence.startTime(), occurrence.endTime()))
+                .toList();
+    }
+
+    private RecurrenceRule validate(BookingSeriesRequest request) {
+        LocalDateTime startTime = request.getStartTime();
+        LocalDateTime endTime = request.getEndTime();
+        if (!startTime.isBefore(endTime)) {
+            throw new InvalidBookingTimeException("Start time must be before end time");
+        }
+        if (startTime.isBefore(LocalDateTime.now())) {
+            throw new InvalidBookingTimeException("Booking cannot be in the past");
+        }
+        if ((request.getUntil() == null) == (request.getCount() == null)) {
+            throw new InvalidSeriesException("Exactly one of until and count is required");
+        }
+
+        RecurrenceRule rule = RecurrenceRule.of(startTime, endTime, request.getFrequency(), request.getInterval(),
+                request.getUntil(), request.getCount());
+        if (rule.length().compareTo(rule.period()) > 0) {
+            throw new InvalidSeriesException("Occurrences must not be longer than the repeat period");
+        }
+        if (rule.count() < 1 || rule.count() > series.getMaxOccurrences()) {
+            throw new InvalidSeriesException("Series must have between 1 and " + series.getMaxOccurrences() + " occurrences");
+        }
+        return rule;
+    }
+
+    /**
+     * Series writes publish no booking events, so once the write is visible to other
+     * transactions the room's series are dropped from memory and its occupancy bitmap is
+     * reloaded in the background.
+     */
+    private void seriesChanged(Long roomId) {
+        bookingSeriesCalendar.invalidate(roomId);
+        roomOccupancy.refreshLater(roomId);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
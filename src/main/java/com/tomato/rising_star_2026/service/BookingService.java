@@ -1,23 +1,60 @@
 package com.tomato.rising_star_2026.service;
 
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.dto.BookingBatchItemResult;
+import com.tomato.rising_star_2026.dto.BookingBatchResponse;
+import com.tomato.rising_star_2026.dto.BookingCursor;
+import com.tomato.rising_star_2026.dto.BookingPage;
 import com.tomato.rising_star_2026.dto.BookingRequest;
 import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.dto.BookingSchedule;
+import com.tomato.rising_star_2026.dto.RoomSchedule;
+import com.tomato.rising_star_2026.event.BookingCanceled;
+import com.tomato.rising_star_2026.event.BookingCreated;
+import com.tomato.rising_star_2026.event.BookingEvents;
 import com.tomato.rising_star_2026.exception.BookingNotFoundException;
 import com.tomato.rising_star_2026.exception.BookingOverlapException;
+import com.tomato.rising_star_2026.exception.InvalidBatchException;
 import com.tomato.rising_star_2026.exception.InvalidBookingTimeException;
+import com.tomato.rising_star_2026.exception.InvalidScheduleException;
 import com.tomato.rising_star_2026.exception.RoomNotFoundException;
 import com.tomato.rising_star_2026.model.Booking;
+import com.tomato.rising_star_2026.model.BookingInterval;
 import com.tomato.rising_star_2026.model.BookingStatus;
 import com.tomato.rising_star_2026.model.Room;
 import com.tomato.rising_star_2026.repository.BookingRepository;
 import com.tomato.rising_star_2026.repository.RoomRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -25,64 +62,498 @@ public class BookingService {
 
     private static final Logger log = LoggerFactory.getLogger(BookingService.class);
 
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59);
+
     private final BookingRepository bookingRepository;
     private final RoomRepository roomRepository;
+    private final RoomIntervalIndex roomIntervalIndex;
+    private final RoomLockRegistry roomLockRegistry;
+    private final BookingSeriesCalendar bookingSeriesCalendar;
+    private final Validator validator;
+    private final BookingMetrics bookingMetrics;
+    private final BookingEvents bookingEvents;
+    private final IdempotencyStore idempotencyStore;
+    private final BookingEngine bookingEngine;
+    private final TransactionTemplate createTransaction;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate cancelTransaction;
+    private final BookingProperties.Concurrency concurrency;
+    private final BookingProperties.Batch batch;
+    private final BookingProperties.Listing listing;
+    private final BookingProperties.Schedule schedule;
 
-    public BookingService(BookingRepository bookingRepository, RoomRepository roomRepository) {
+    public BookingService(BookingRepository bookingRepository, RoomRepository roomRepository,
+                          RoomIntervalIndex roomIntervalIndex, RoomLockRegistry roomLockRegistry,
+                          BookingSeriesCalendar bookingSeriesCalendar,
+                          Validator validator, BookingMetrics bookingMetrics, BookingEvents bookingEvents,
+                          IdempotencyStore idempotencyStore, BookingEngine bookingEngine,
+                          PlatformTransactionManager transactionManager, BookingProperties properties) {
         this.bookingRepository = bookingRepository;
         this.roomRepository = roomRepository;
+        this.roomIntervalIndex = roomIntervalIndex;
+        this.roomLockRegistry = roomLockRegistry;
+        this.bookingSeriesCalendar = bookingSeriesCalendar;
+        this.validator = validator;
+        this.bookingMetrics = bookingMetrics;
+        this.bookingEvents = bookingEvents;
+        this.idempotencyStore = idempotencyStore;
+        this.bookingEngine = bookingEngine;
+        this.createTransaction = namedTransaction(transactionManager, "BookingService.createBooking");
+        this.batchTransaction = namedTransaction(transactionManager, "BookingService.createBookings");
+        this.cancelTransaction = namedTransaction(transactionManager, "BookingService.cancelBooking");
+        this.concurrency = properties.getConcurrency();
+        this.batch = properties.getBatch();
+        this.listing = properties.getListing();
+        this.schedule = properties.getSchedule();
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookingResponse createBooking(BookingRequest request) {
-        log.info("Creating booking for room {} from {} to {}",
+        return createBooking(request, null);
+    }
+
+    /**
+     * Creates a booking and records it under the idempotency key, if one is given. A retry that
+     * waited on the room lock while the first attempt committed gets that attempt's booking
+     * back instead of an overlap error. The room lock is taken before the transaction begins
+     * and with the booking engine enabled the create is queued to the room's partition, so
+     * either way the request thread holds no connection while it waits.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingResponse createBooking(BookingRequest request, String idempotencyKey) {
+        return bookingMetrics.record("create", () -> bookingEngine.isEnabled()
+                ? bookingEngine.submit(request.getRoomId(), pending -> create(request, idempotencyKey, pending))
+                : roomLockRegistry.withLocks(Collections.singleton(request.getRoomId()),
+                        () -> createTransaction.execute(status -> create(request, idempotencyKey, null))));
+    }
+
+    private BookingResponse create(BookingRequest request, String idempotencyKey, BookingEngine.Pending pending) {
+        log.debug("Creating booking for room {} from {} to {}",
                 request.getRoomId(), request.getStartTime(), request.getEndTime());
 
         validateBookingTime(request.getStartTime(), request.getEndTime());
 
         Room room = roomRepository.findById(request.getRoomId())
                 .orElseThrow(RoomNotFoundException::new);
+        lockRoom(room.getId());
+
+        if (idempotencyKey != null) {
+            Optional<BookingResponse> replay = idempotencyStore.find(idempotencyKey, request);
+            if (replay.isPresent()) {
+                return replay.get();
+            }
+        }
 
-        if (bookingRepository.existsOverlappingBooking(
-                request.getRoomId(), request.getStartTime(), request.getEndTime())) {
+        if (hasOverlap(request.getRoomId(), request.getStartTime(), request.getEndTime())
+                || pending != null && pending.overlaps(room.getId(), request.getStartTime(), request.getEndTime())) {
+            bookingMetrics.overlapRejected(room.getId());
             throw new BookingOverlapException();
         }
 
         Booking booking = new Booking(room, request.getBookerName(), request.getStartTime(), request.getEndTime());
         Booking savedBooking = bookingRepository.save(booking);
+        BookingResponse response = BookingResponse.fromEntity(savedBooking);
+        if (pending != null) {
+            pending.add(new BookingInterval(savedBooking.getId(), room.getId(),
+                    savedBooking.getStartTime(), savedBooking.getEndTime()));
+        }
+        if (idempotencyKey != null) {
+            idempotencyStore.save(idempotencyKey, request, response);
+        }
+        afterCommit(() -> {
+            roomIntervalIndex.add(room.getId(), savedBooking.getId(), savedBooking.getStartTime(), savedBooking.getEndTime());
+            bookingEvents.publish(BookingCreated.of(savedBooking));
+        });
+
+        log.debug("Booking created with id {}", savedBooking.getId());
+        return response;
+    }
 
-        log.info("Booking created with id {}", savedBooking.getId());
-        return BookingResponse.fromEntity(savedBooking);
+    /**
+     * Creates many bookings in one transaction. Every item is validated on its own and the
+     * overlap check runs as a single sort-and-sweep per room over the stored bookings and the
+     * other items of the batch, so one failing item never rejects the rest. The locks of the
+     * requested rooms are taken before the transaction begins.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookingBatchResponse createBookings(List<BookingRequest> requests) {
+        return bookingMetrics.record("batch", () -> createBatch(requests));
     }
 
+    private BookingBatchResponse createBatch(List<BookingRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidBatchException("Batch must contain at least one booking");
+        }
+        if (requests.size() > batch.getMaxSize()) {
+            throw new InvalidBatchException("Batch must not contain more than " + batch.getMaxSize() + " bookings");
+        }
+        log.info("Creating batch of {} bookings", requests.size());
+
+        BookingBatchItemResult[] results = new BookingBatchItemResult[requests.size()];
+        List<BatchCandidate> candidates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BookingBatchItemResult rejection = validateBatchItem(i, requests.get(i));
+            if (rejection != null) {
+                results[i] = rejection;
+            } else {
+                candidates.add(new BatchCandidate(i, requests.get(i)));
+            }
+        }
+
+        Set<Long> requestedRoomIds = candidates.stream()
+                .map(candidate -> candidate.request().getRoomId())
+                .collect(Collectors.toCollection(TreeSet::new));
+        roomLockRegistry.withLocks(requestedRoomIds, () -> batchTransaction.execute(status -> {
+            createCandidates(candidates, requestedRoomIds, results);
+            return null;
+        }));
+
+        BookingBatchResponse response = BookingBatchResponse.of(Arrays.asList(results));
+        log.info("Batch finished: {} created, {} rejected", response.getCreated(), response.getRejected());
+        return response;
+    }
+
+    private void createCandidates(List<BatchCandidate> candidates, Set<Long> requestedRoomIds,
+                                  BookingBatchItemResult[] results) {
+        Map<Long, Room> rooms = roomRepository.findAllById(requestedRoomIds).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        Map<Long, List<BatchCandidate>> candidatesByRoom = candidates.stream()
+                .filter(candidate -> {
+                    if (rooms.containsKey(candidate.request().getRoomId())) {
+                        return true;
+                    }
+                    results[candidate.index()] = BookingBatchItemResult.rejected(
+                            candidate.index(), 404, "Not Found", new RoomNotFoundException().getMessage());
+                    return false;
+                })
+                .collect(Collectors.groupingBy(candidate -> candidate.request().getRoomId()));
+
+        if (!candidatesByRoom.isEmpty()) {
+            lockRooms(new TreeSet<>(candidatesByRoom.keySet()));
+            Map<Long, List<BookingInterval>> existingByRoom = findExistingIntervals(candidatesByRoom);
+
+            List<Booking> accepted = new ArrayList<>();
+            List<BatchCandidate> acceptedCandidates = new ArrayList<>();
+            candidatesByRoom.forEach((roomId, roomCandidates) -> sweep(
+                    roomCandidates,
+                    existingByRoom.getOrDefault(roomId, List.of()),
+                    candidate -> {
+                        BookingRequest request = candidate.request();
+                        accepted.add(new Booking(rooms.get(roomId), request.getBookerName(),
+                                request.getStartTime(), request.getEndTime()));
+                        acceptedCandidates.add(candidate);
+                    },
+                    candidate -> {
+                        bookingMetrics.overlapRejected(roomId);
+                        results[candidate.index()] = BookingBatchItemResult.rejected(
+                                candidate.index(), 409, "Conflict", new BookingOverlapException().getMessage());
+                    }));
+
+            List<Booking> savedBookings = bookingRepository.saveAll(accepted);
+            for (int i = 0; i < savedBookings.size(); i++) {
+                Booking saved = savedBookings.get(i);
+                int index = acceptedCandidates.get(i).index();
+                results[index] = BookingBatchItemResult.created(index, BookingResponse.fromEntity(saved));
+            }
+            afterCommit(() -> savedBookings.forEach(saved -> {
+                roomIntervalIndex.add(saved.getRoom().getId(), saved.getId(), saved.getStartTime(), saved.getEndTime());
+                bookingEvents.publish(BookingCreated.of(saved));
+            }));
+        }
+    }
+
+    /**
+     * Cancels with one conditional update instead of load, modify and flush, so concurrent
+     * cancels cannot overwrite each other and only the one that changed the row publishes
+     * the cancellation. Canceling an already canceled booking returns it unchanged.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookingResponse cancelBooking(Long bookingId) {
-        log.info("Canceling booking with id {}", bookingId);
+        return bookingMetrics.record("cancel", () -> bookingEngine.isEnabled()
+                ? bookingEngine.submitForBooking(bookingId, pending -> cancel(bookingId))
+                : cancelTransaction.execute(status -> cancel(bookingId)));
+    }
 
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(BookingNotFoundException::new);
+    private BookingResponse cancel(Long bookingId) {
+        log.debug("Canceling booking with id {}", bookingId);
 
-        if(booking.getStatus() == BookingStatus.CANCELED) {
-            return BookingResponse.fromEntity(booking);
+        boolean canceled = bookingRepository.cancelIfBooked(bookingId) == 1;
+        BookingResponse booking = bookingRepository.findResponseById(bookingId)
+                .orElseThrow(BookingNotFoundException::new);
+        if (!canceled) {
+            return booking;
         }
 
-        booking.setStatus(BookingStatus.CANCELED);
-        Booking savedBooking = bookingRepository.save(booking);
+        afterCommit(() -> {
+            roomIntervalIndex.remove(booking.getRoomId(), booking.getId(), booking.getStartTime());
+            bookingEvents.publish(BookingCanceled.of(booking));
+        });
 
-        log.info("Booking {} canceled", bookingId);
-        return BookingResponse.fromEntity(savedBooking);
+        log.debug("Booking {} canceled", bookingId);
+        return booking;
     }
 
     @Transactional(readOnly = true)
     public List<BookingResponse> getBookingsByRoom(Long roomId) {
+        return bookingMetrics.record("list", () -> list(roomId));
+    }
+
+    private List<BookingResponse> list(Long roomId) {
         log.info("Fetching active bookings for room {}", roomId);
 
-        if (!roomRepository.existsById(roomId)) {
+        if (roomRepository.findById(roomId).isEmpty()) {
+            throw new RoomNotFoundException();
+        }
+
+        return bookingRepository.findResponsesByRoomIdAndStatus(roomId, BookingStatus.BOOKED);
+    }
+
+    /**
+     * Returns one page of the room's active bookings that overlap {@code [from, to)}, ordered by
+     * start time and id. Open window ends are unbounded; the cursor continues after the last
+     * booking of the previous page.
+     */
+    @Transactional(readOnly = true)
+    public BookingPage getBookingsByRoom(Long roomId, LocalDateTime from, LocalDateTime to,
+                                         String cursor, Integer limit) {
+        return bookingMetrics.record("list_page", () -> listPage(roomId, from, to, cursor, limit));
+    }
+
+    private BookingPage listPage(Long roomId, LocalDateTime from, LocalDateTime to, String cursor, Integer limit) {
+        log.info("Fetching page of active bookings for room {} between {} and {}", roomId, from, to);
+
+        LocalDateTime windowFrom = from != null ? from : MIN_TIME;
+        LocalDateTime windowTo = to != null ? to : MAX_TIME;
+        validateRoomWindow(roomId, windowFrom, windowTo);
+
+        int pageSize = limit == null ? listing.getDefaultPageSize() : Math.max(1, Math.min(limit, listing.getMaxPageSize()));
+        BookingCursor after = cursor != null ? BookingCursor.decode(cursor) : new BookingCursor(MIN_TIME, 0L);
+
+        List<BookingResponse> bookings = bookingRepository.findPageByRoom(
+                roomId, windowFrom, windowTo, after.startTime(), after.id(), Limit.of(pageSize + 1));
+        List<BookingResponse> items = bookings.size() > pageSize ? bookings.subList(0, pageSize) : bookings;
+
+        String nextCursor = null;
+        if (bookings.size() > pageSize) {
+            BookingResponse last = items.get(items.size() - 1);
+            nextCursor = new BookingCursor(last.getStartTime(), last.getId()).encode();
+        }
+        return new BookingPage(items, nextCursor);
+    }
+
+    /**
+     * Returns the active bookings of every requested room that overlap {@code [from, to)} in
+     * columns per room. The bookings of all rooms are read with one query ordered by room and
+     * start time and split into rooms in a single pass; rooms without bookings get empty columns.
+     */
+    @Transactional(readOnly = true)
+    public BookingSchedule getSchedule(Collection<Long> roomIds, LocalDateTime from, LocalDateTime to) {
+        return bookingMetrics.record("schedule", () -> schedule(roomIds, from, to));
+    }
+
+    private BookingSchedule schedule(Collection<Long> roomIds, LocalDateTime from, LocalDateTime to) {
+        Set<Long> rooms = roomIds == null ? Set.of() : roomIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        log.info("Fetching schedule of {} rooms between {} and {}", rooms.size(), from, to);
+
+        validateSchedule(rooms, from, to);
+        if (roomRepository.countByIdIn(rooms) != rooms.size()) {
+            throw new RoomNotFoundException();
+        }
+
+        List<BookingInterval> intervals = bookingRepository.findActiveIntervalsInWindow(rooms, from, to);
+        Map<Long, RoomSchedule> schedules = new LinkedHashMap<>();
+        int next = 0;
+        for (Long roomId : rooms) {
+            int first = next;
+            while (next < intervals.size() && intervals.get(next).roomId().equals(roomId)) {
+                next++;
+            }
+            schedules.put(roomId, RoomSchedule.of(intervals.subList(first, next)));
+        }
+        return new BookingSchedule(schedules);
+    }
+
+    private void validateSchedule(Set<Long> rooms, LocalDateTime from, LocalDateTime to) {
+        if (rooms.isEmpty()) {
+            throw new InvalidScheduleException("At least one room is required");
+        }
+        if (rooms.size() > schedule.getMaxRooms()) {
+            throw new InvalidScheduleException("Schedule must not cover more than " + schedule.getMaxRooms() + " rooms");
+        }
+        if (!from.isBefore(to)) {
+            throw new InvalidBookingTimeException("From must be before to");
+        }
+        if (Duration.between(from, to).compareTo(schedule.getMaxWindow()) > 0) {
+            throw new InvalidScheduleException("Schedule window must not exceed " + schedule.getMaxWindow());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void validateRoomWindow(Long roomId, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidBookingTimeException("From must be before to");
+        }
+        if (roomRepository.findById(roomId).isEmpty()) {
             throw new RoomNotFoundException();
         }
+    }
+
+    /**
+     * Hands the room's active bookings that overlap {@code [from, to)} to the consumer one at a
+     * time, straight from a database cursor, so memory use does not depend on the room's history.
+     */
+    @Transactional(readOnly = true)
+    public void streamBookingsByRoom(Long roomId, LocalDateTime from, LocalDateTime to,
+                                     Consumer<BookingResponse> consumer) {
+        bookingMetrics.record("stream", () -> {
+            stream(roomId, from, to, consumer);
+            return null;
+        });
+    }
+
+    private void stream(Long roomId, LocalDateTime from, LocalDateTime to, Consumer<BookingResponse> consumer) {
+        try (Stream<BookingResponse> bookings = bookingRepository.streamByRoom(
+                roomId, from != null ? from : MIN_TIME, to != null ? to : MAX_TIME)) {
+            bookings.forEach(consumer);
+        }
+    }
+
+    private static TransactionTemplate namedTransaction(PlatformTransactionManager transactionManager, String name) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setName(name);
+        return template;
+    }
+
+    private void lockRoom(Long roomId) {
+        roomLockRegistry.lockUntilCompletion(roomId);
+        if (concurrency.isClusterLock()) {
+            roomRepository.findByIdForUpdate(roomId);
+        }
+    }
+
+    private void lockRooms(Set<Long> sortedRoomIds) {
+        sortedRoomIds.forEach(roomLockRegistry::lockUntilCompletion);
+        if (concurrency.isClusterLock()) {
+            roomRepository.findAllByIdForUpdate(sortedRoomIds);
+        }
+    }
+
+    private BookingBatchItemResult validateBatchItem(int index, BookingRequest request) {
+        if (request == null) {
+            return BookingBatchItemResult.rejected(index, 400, "Validation Failed", "Booking is required");
+        }
+
+        Set<ConstraintViolation<BookingRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return BookingBatchItemResult.rejected(index, 400, "Validation Failed", message);
+        }
+
+        try {
+            validateBookingTime(request.getStartTime(), request.getEndTime());
+        } catch (InvalidBookingTimeException ex) {
+            return BookingBatchItemResult.rejected(index, 400, "Bad Request", ex.getMessage());
+        }
+        return null;
+    }
+
+    private Map<Long, List<BookingInterval>> findExistingIntervals(Map<Long, List<BatchCandidate>> candidatesByRoom) {
+        List<BookingRequest> requests = candidatesByRoom.values().stream()
+                .flatMap(List::stream)
+                .map(BatchCandidate::request)
+                .toList();
+        LocalDateTime from = requests.stream().map(BookingRequest::getStartTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = requests.stream().map(BookingRequest::getEndTime).max(Comparator.naturalOrder()).orElseThrow();
+
+        List<BookingInterval> intervals = BookingSeriesCalendar.merge(
+                bookingRepository.findActiveIntervalsInWindow(candidatesByRoom.keySet(), from, to),
+                bookingSeriesCalendar.occurrencesInWindow(candidatesByRoom.keySet(), from, to));
+        return intervals.stream().collect(Collectors.groupingBy(BookingInterval::roomId));
+    }
 
-        return bookingRepository.findByRoomIdAndStatus(roomId, BookingStatus.BOOKED)
-                .stream()
-                .map(BookingResponse::fromEntity)
+    /**
+     * Walks the room's candidates and stored intervals in start-time order. A candidate is
+     * accepted when it starts at or after everything seen so far has ended and ends before the
+     * next stored interval starts. Candidates with equal start times are taken in batch order.
+     */
+    private static void sweep(List<BatchCandidate> candidates, List<BookingInterval> existing,
+                              Consumer<BatchCandidate> onAccepted,
+                              Consumer<BatchCandidate> onRejected) {
+        List<BatchCandidate> sorted = candidates.stream()
+                .sorted(Comparator.comparing((BatchCandidate candidate) -> candidate.request().getStartTime())
+                        .thenComparingInt(BatchCandidate::index))
                 .toList();
+
+        LocalDateTime reachedUntil = LocalDateTime.MIN;
+        int next = 0;
+        for (BatchCandidate candidate : sorted) {
+            LocalDateTime start = candidate.request().getStartTime();
+            LocalDateTime end = candidate.request().getEndTime();
+
+            while (next < existing.size() && !existing.get(next).startTime().isAfter(start)) {
+                reachedUntil = max(reachedUntil, existing.get(next).endTime());
+                next++;
+            }
+
+            boolean overlapsEarlier = start.isBefore(reachedUntil);
+            boolean overlapsNext = next < existing.size() && existing.get(next).startTime().isBefore(end);
+            if (overlapsEarlier || overlapsNext) {
+                onRejected.accept(candidate);
+            } else {
+                reachedUntil = max(reachedUntil, end);
+                onAccepted.accept(candidate);
+            }
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * Checks single bookings against the overlap index and series against the rooms' series
+     * kept in memory, so a create makes no database round-trip for its check. Until the index
+     * is warmed, or with the cluster lock, both are checked in the database.
+     */
+    private boolean hasOverlap(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!roomIntervalIndex.isReady() || concurrency.isClusterLock()) {
+            return bookingRepository.existsOverlappingBooking(roomId, startTime, endTime)
+                    || bookingSeriesCalendar.hasOverlap(roomId, startTime, endTime);
+        }
+        return hasIndexedOverlap(roomId, startTime, endTime)
+                || bookingSeriesCalendar.hasCachedOverlap(roomId, startTime, endTime);
+    }
+
+    private boolean hasIndexedOverlap(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        boolean indexed = roomIntervalIndex.hasOverlap(roomId, startTime, endTime);
+        if (roomIntervalIndex.isVerifying()) {
+            boolean stored = bookingRepository.existsOverlappingBooking(roomId, startTime, endTime);
+            if (indexed != stored) {
+                log.warn("Overlap index drift for room {}: index={}, database={}", roomId, indexed, stored);
+                return stored;
+            }
+        }
+        return indexed;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     private void validateBookingTime(LocalDateTime startTime, LocalDateTime endTime) {
@@ -94,4 +565,7 @@ public class BookingService {
             throw new InvalidBookingTimeException("Booking cannot be in the past");
         }
     }
+
+    private record BatchCandidate(int index, BookingRequest request) {
+    }
 }
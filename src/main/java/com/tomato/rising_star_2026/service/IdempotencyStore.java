@@ -0,0 +1,169 @@
+package com.tomato.rising_star_2026.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.dto.BookingRequest;
+import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.exception.IdempotencyKeyReuseException;
+import com.tomato.rising_star_2026.exception.InvalidIdempotencyKeyException;
+import com.tomato.rising_star_2026.model.BookingStatus;
+import com.tomato.rising_star_2026.model.IdempotencyRecord;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Remembers which booking was created for each {@code Idempotency-Key}, so a retried create
+ * returns the original response instead of running again. Requests are matched by the
+ * SHA-256 digest of their fields, and both sources answer with the booking as it was
+ * created, even if it has been canceled since. Recent keys are answered from a
+ * bounded in-memory map that expires entries after the configured time to live; keys that
+ * were evicted, created before a restart or on another node fall back to the
+ * {@code idempotency_keys} table, which is written in the same transaction as the booking.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    static final int MAX_KEY_LENGTH = 255;
+    static final String REPLAYS = "booking.idempotency.replays";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingProperties.Idempotency properties;
+    private final Cache<String, Entry> recent;
+    private final Counter memoryReplays;
+    private final Counter databaseReplays;
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            BookingRepository bookingRepository, BookingProperties properties,
+                            MeterRegistry registry) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.bookingRepository = bookingRepository;
+        this.properties = properties.getIdempotency();
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(this.properties.getMaxEntries())
+                .expireAfterWrite(this.properties.getTtl())
+                .build();
+        this.memoryReplays = replays(registry, "memory");
+        this.databaseReplays = replays(registry, "database");
+    }
+
+    /**
+     * Returns the booking created earlier with this key, if any. Throws when the key was used
+     * for a request with a different room, booker or interval.
+     */
+    public Optional<BookingResponse> find(String key, BookingRequest request) {
+        validate(key);
+        Entry entry = recent.getIfPresent(key);
+        Counter source = memoryReplays;
+        if (entry == null) {
+            entry = load(key);
+            source = databaseReplays;
+        }
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.requestHash().equals(requestHash(request))) {
+            throw new IdempotencyKeyReuseException("Idempotency key was already used for a different booking");
+        }
+        source.increment();
+        return Optional.of(entry.response());
+    }
+
+    /**
+     * Records the booking created for the key. The row joins the caller's transaction; the
+     * in-memory entry is only added once that transaction commits.
+     */
+    public void save(String key, BookingRequest request, BookingResponse response) {
+        validate(key);
+        Entry entry = new Entry(requestHash(request), response);
+        idempotencyRecordRepository.save(
+                new IdempotencyRecord(key, entry.requestHash(), response.getId(), LocalDateTime.now()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recent.put(key, entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recent.put(key, entry);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${booking.idempotency.purge-interval:PT10M}",
+            initialDelayString = "${booking.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteCreatedBefore(LocalDateTime.now().minus(properties.getTtl()));
+        if (deleted > 0) {
+            log.debug("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private Entry load(String key) {
+        LocalDateTime expired = LocalDateTime.now().minus(properties.getTtl());
+        return idempotencyRecordRepository.findById(key)
+                .filter(record -> record.getCreatedAt().isAfter(expired))
+                .flatMap(record -> bookingRepository.findResponseById(record.getBookingId())
+                        .map(response -> new Entry(record.getRequestHash(), asCreated(response))))
+                .orElse(null);
+    }
+
+    /**
+     * The stored booking may have been canceled since; everything else about it is fixed at
+     * creation, so resetting the status gives back the response the first create returned.
+     */
+    private static BookingResponse asCreated(BookingResponse response) {
+        response.setStatus(BookingStatus.BOOKED);
+        return response;
+    }
+
+    private static void validate(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    "Idempotency key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * Hex SHA-256 digest of the room, interval and booker of the request. The booker name is
+     * last, so the separators cannot be confused with its contents.
+     */
+    public static String requestHash(BookingRequest request) {
+        String canonical = request.getRoomId() + "|" + request.getStartTime() + "|" + request.getEndTime()
+                + "|" + request.getBookerName();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Counter replays(MeterRegistry registry, String source) {
+        return Counter.builder(REPLAYS)
+                .description("Booking creates answered with the response stored for their idempotency key")
+                .tag("source", source)
+                .register(registry);
+    }
+
+    private record Entry(String requestHash, BookingResponse response) {
+    }
+}
@@ -0,0 +1,327 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.model.BookingInterval;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of the active (BOOKED) intervals of every room, used to answer overlap
+ * checks without a database round-trip. The database stays the source of truth: the index
+ * is warmed from it at startup, kept up to date by {@link BookingService} after each commit
+ * and periodically reconciled against it. Changes committed while the database is read are
+ * replayed onto what was read before it replaces the indexed intervals, and overlap checks
+ * go to the database until the first warm-up has completed. Writers hold the write lock only
+ * for in-memory work: a rebuild swaps in the whole map and a reconciliation takes it once per
+ * room, so a commit never waits for a database read or a full comparison.
+ */
+@Component
+public class RoomIntervalIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomIntervalIndex.class);
+
+    private final BookingRepository bookingRepository;
+    private final BookingProperties.OverlapIndex properties;
+    private volatile Map<Long, RoomIntervals> rooms = new ConcurrentHashMap<>();
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean ready;
+    private List<Change> replay;
+
+    public RoomIntervalIndex(BookingRepository bookingRepository, BookingProperties properties) {
+        this.bookingRepository = bookingRepository;
+        this.properties = properties.getOverlapIndex();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isVerifying() {
+        return properties.isVerify();
+    }
+
+    /**
+     * Whether overlap checks can be answered from the index, that is, it is enabled and has
+     * been warmed from the database.
+     */
+    public boolean isReady() {
+        return ready && isEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!isEnabled()) {
+            return;
+        }
+        rebuild();
+    }
+
+    public void rebuild() {
+        Map<Long, RoomIntervals> loaded;
+        loadLock.lock();
+        try {
+            loaded = read(LocalDateTime.now());
+            writeLock.lock();
+            try {
+                replayOnto(loaded);
+                replay = null;
+                rooms = loaded;
+                ready = true;
+            } finally {
+                writeLock.unlock();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+        int intervals = loaded.values().stream().mapToInt(RoomIntervals::size).sum();
+        log.info("Overlap index warmed with {} intervals across {} rooms", intervals, loaded.size());
+    }
+
+    public boolean hasOverlap(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        RoomIntervals intervals = rooms.get(roomId);
+        return intervals != null && intervals.overlaps(startTime, endTime);
+    }
+
+    public void add(Long roomId, Long bookingId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!isEnabled()) {
+            return;
+        }
+        record(new Change(roomId, new Interval(bookingId, startTime, endTime), true));
+    }
+
+    public void remove(Long roomId, Long bookingId, LocalDateTime startTime) {
+        if (!isEnabled()) {
+            return;
+        }
+        record(new Change(roomId, new Interval(bookingId, startTime, startTime), false));
+    }
+
+    private void record(Change change) {
+        writeLock.lock();
+        try {
+            change.applyTo(rooms);
+            if (replay != null) {
+                replay.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.overlap-index.reconcile-interval:PT10M}",
+            initialDelayString = "${booking.overlap-index.reconcile-interval:PT10M}")
+    public void scheduledReconcile() {
+        if (!isEnabled()) {
+            return;
+        }
+        if (ready) {
+            reconcile();
+        } else {
+            rebuild();
+        }
+    }
+
+    /**
+     * Compares the indexed intervals with the active bookings in the database, drops intervals
+     * that have already ended and, when repair is enabled, rebuilds every room that drifted.
+     */
+    public ReconciliationReport reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        loadLock.lock();
+        try {
+            Map<Long, RoomIntervals> stored = read(now);
+            try {
+                return compare(now, stored);
+            } finally {
+                stopReplay();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Compares room after room under the write lock. Changes committed since the read, or
+     * since the previous room, are replayed onto the read intervals first, so a booking in
+     * flight is never reported as drift.
+     */
+    private ReconciliationReport compare(LocalDateTime now, Map<Long, RoomIntervals> stored) {
+        Set<Long> roomIds = new HashSet<>(stored.keySet());
+        roomIds.addAll(rooms.keySet());
+
+        int missing = 0;
+        int stale = 0;
+        int driftedRooms = 0;
+        for (Long roomId : roomIds) {
+            writeLock.lock();
+            try {
+                replayOnto(stored);
+                RoomIntervals indexed = rooms.computeIfAbsent(roomId, id -> new RoomIntervals());
+                indexed.evictEndedBefore(now);
+
+                RoomIntervals read = stored.computeIfAbsent(roomId, id -> new RoomIntervals());
+                Set<Interval> expected = read.snapshot();
+                Set<Interval> actual = indexed.snapshot();
+
+                int roomMissing = (int) expected.stream().filter(interval -> !actual.contains(interval)).count();
+                int roomStale = (int) actual.stream().filter(interval -> !expected.contains(interval)).count();
+                if (roomMissing == 0 && roomStale == 0) {
+                    continue;
+                }
+
+                driftedRooms++;
+                missing += roomMissing;
+                stale += roomStale;
+                log.warn("Overlap index drift for room {}: {} missing, {} stale intervals", roomId, roomMissing, roomStale);
+                if (properties.isRepair()) {
+                    rooms.put(roomId, read);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        return new ReconciliationReport(roomIds.size(), driftedRooms, missing, stale);
+    }
+
+    /**
+     * Reads the active intervals of every room and starts recording the changes made from
+     * now on, to be replayed onto what was read. Callers hold the load lock, so loads never
+     * share the replay list.
+     */
+    private Map<Long, RoomIntervals> read(LocalDateTime now) {
+        writeLock.lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+        List<BookingInterval> intervals;
+        try {
+            intervals = bookingRepository.findActiveIntervals(now);
+        } catch (RuntimeException ex) {
+            stopReplay();
+            throw ex;
+        }
+
+        Map<Long, RoomIntervals> loaded = new ConcurrentHashMap<>();
+        intervals.forEach(interval -> loaded.computeIfAbsent(interval.roomId(), id -> new RoomIntervals())
+                .add(Interval.of(interval)));
+        return loaded;
+    }
+
+    /**
+     * Applies the changes recorded so far and clears them. Callers hold the write lock.
+     */
+    private void replayOnto(Map<Long, RoomIntervals> loaded) {
+        replay.forEach(change -> change.applyTo(loaded));
+        replay.clear();
+    }
+
+    private void stopReplay() {
+        writeLock.lock();
+        try {
+            replay = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public record ReconciliationReport(int roomsChecked, int driftedRooms, int missingIntervals, int staleIntervals) {
+
+        public boolean consistent() {
+            return driftedRooms == 0;
+        }
+    }
+
+    private record Change(Long roomId, Interval interval, boolean added) {
+
+        void applyTo(Map<Long, RoomIntervals> rooms) {
+            if (added) {
+                rooms.computeIfAbsent(roomId, id -> new RoomIntervals()).add(interval);
+                return;
+            }
+            RoomIntervals intervals = rooms.get(roomId);
+            if (intervals != null) {
+                intervals.remove(interval);
+            }
+        }
+    }
+
+    private record Interval(Long bookingId, LocalDateTime startTime, LocalDateTime endTime) {
+
+        private static final Comparator<Interval> ORDER = Comparator
+                .comparing(Interval::startTime)
+                .thenComparing(Interval::bookingId);
+
+        static Interval of(BookingInterval interval) {
+            return new Interval(interval.bookingId(), interval.startTime(), interval.endTime());
+        }
+
+        static Interval probe(LocalDateTime startTime) {
+            return new Interval(Long.MIN_VALUE, startTime, startTime);
+        }
+    }
+
+    /**
+     * Intervals of a single room ordered by start time. Any interval overlapping {@code [start, end)}
+     * must start after {@code start - maxLength}, so a check only scans that bounded range.
+     */
+    private static final class RoomIntervals {
+
+        private final ConcurrentSkipListSet<Interval> intervals = new ConcurrentSkipListSet<>(Interval.ORDER);
+        private final AtomicLong maxLengthNanos = new AtomicLong();
+
+        boolean overlaps(LocalDateTime startTime, LocalDateTime endTime) {
+            LocalDateTime earliestStart = startTime.minusNanos(maxLengthNanos.get());
+            for (Interval interval : intervals.subSet(Interval.probe(earliestStart), true, Interval.probe(endTime), false)) {
+                if (interval.endTime().isAfter(startTime)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void add(Interval interval) {
+            long lengthNanos = Duration.between(interval.startTime(), interval.endTime()).toNanos();
+            maxLengthNanos.accumulateAndGet(lengthNanos, Math::max);
+            intervals.add(interval);
+        }
+
+        void remove(Interval interval) {
+            intervals.remove(interval);
+        }
+
+        void evictEndedBefore(LocalDateTime now) {
+            intervals.removeIf(interval -> !interval.endTime().isAfter(now));
+        }
+
+        int size() {
+            return intervals.size();
+        }
+
+        Set<Interval> snapshot() {
+            return new HashSet<>(intervals);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.exception.RoomBusyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * One lock per room, so that bookings of the same room are checked and inserted one at a time
+ * while bookings of different rooms never contend. A lock taken inside a transaction is held
+ * until that transaction completes, which makes the committed booking visible to the next
+ * holder before it runs its own overlap check. Callers that open their own transaction take
+ * the locks with {@link #withLocks} first, so a waiting request holds no database connection;
+ * the locks are reentrant, so taking them again inside the transaction does not wait.
+ */
+@Component
+public class RoomLockRegistry {
+
+    private final Map<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final Duration lockTimeout;
+
+    public RoomLockRegistry(BookingProperties properties) {
+        this.lockTimeout = properties.getConcurrency().getLockTimeout();
+    }
+
+    /**
+     * Runs {@code action} holding the locks of the rooms, taken in room order, and releases them
+     * once it returns. An action that runs a transaction releases them after it completed.
+     */
+    public <T> T withLocks(Collection<Long> roomIds, Supplier<T> action) {
+        Set<Long> ordered = roomIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        List<ReentrantLock> held = new ArrayList<>();
+        try {
+            for (Long roomId : ordered) {
+                ReentrantLock lock = lockOf(roomId);
+                acquire(lock);
+                held.add(lock);
+            }
+            return action.get();
+        } finally {
+            held.reversed().forEach(ReentrantLock::unlock);
+        }
+    }
+
+    public void lockUntilCompletion(Long roomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Room locks can only be taken inside a transaction");
+        }
+
+        ReentrantLock lock = lockOf(roomId);
+        acquire(lock);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ReentrantLock lockOf(Long roomId) {
+        return locks.computeIfAbsent(roomId, id -> new ReentrantLock());
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(lockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new RoomBusyException();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RoomBusyException();
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.event.BookingCanceled;
+import com.tomato.rising_star_2026.event.BookingCreated;
+import com.tomato.rising_star_2026.event.BookingEvent;
+import com.tomato.rising_star_2026.event.BookingEventListener;
+import com.tomato.rising_star_2026.model.BookingInterval;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-room occupancy bitmaps for "is the room free at T" checks. Each room has one bit per
+ * slot from the start of today for a fixed number of days, set when any booking or series
+ * occurrence overlaps the slot. A check is one map lookup and one word read, with no
+ * allocation and no database access. Bitmaps are loaded from the database at startup and on
+ * every refresh, which also moves the window forward, and are kept current by the committed
+ * create and cancel events in between. A cancel clears only the slots the booking covered
+ * completely, as a partly covered slot may be shared with a neighbour; such a slot reads as
+ * occupied until the next refresh, which is exact for slot-aligned bookings.
+ */
+@Component
+public class RoomOccupancy implements BookingEventListener, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomOccupancy.class);
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private final RoomRepository roomRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingSeriesCalendar bookingSeriesCalendar;
+    private final TransactionTemplate readTransaction;
+    private final boolean enabled;
+    private final long slotSeconds;
+    private final int days;
+    private final int slots;
+
+    private final ExecutorService reloads = Executors.newVirtualThreadPerTaskExecutor();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Window window;
+    private List<BookingEvent> replay;
+
+    public RoomOccupancy(RoomRepository roomRepository, BookingRepository bookingRepository,
+                         BookingSeriesCalendar bookingSeriesCalendar, PlatformTransactionManager transactionManager,
+                         BookingProperties properties) {
+        this.roomRepository = roomRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingSeriesCalendar = bookingSeriesCalendar;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setName("RoomOccupancy.load");
+        BookingProperties.Occupancy occupancy = properties.getOccupancy();
+        this.enabled = occupancy.isEnabled() && !properties.getConcurrency().isClusterLock();
+        this.slotSeconds = occupancy.getSlot().toSeconds();
+        this.days = occupancy.getDays();
+        if (slotSeconds <= 0 || SECONDS_PER_DAY % slotSeconds != 0) {
+            throw new IllegalStateException("Occupancy slot must divide a day, was " + occupancy.getSlot());
+        }
+        this.slots = (int) (days * SECONDS_PER_DAY / slotSeconds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns whether a booking overlaps the slot containing {@code at}, or {@code null} when
+     * the bitmaps do not cover the room or the time and the caller has to ask the database.
+     */
+    public Boolean isOccupied(Long roomId, LocalDateTime at) {
+        Window current = window;
+        if (current == null) {
+            return null;
+        }
+        long slot = current.slotOf(at);
+        if (slot < 0 || slot >= slots) {
+            return null;
+        }
+        AtomicLongArray bits = current.rooms.get(roomId);
+        if (bits == null) {
+            return null;
+        }
+        return (bits.get((int) (slot >>> 6)) & (1L << slot)) != 0;
+    }
+
+    /**
+     * Ids of the rooms covered by the bitmaps, or {@code null} before the first load.
+     */
+    public Collection<Long> roomIds() {
+        Window current = window;
+        return current != null ? current.rooms.keySet() : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.occupancy.refresh-interval:PT1H}",
+            initialDelayString = "${booking.occupancy.refresh-interval:PT1H}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    /**
+     * Reloads every room for a window starting today. Events committed while the database is
+     * read are replayed onto the new bitmaps before they replace the old ones.
+     */
+    public void refresh() {
+        Window next = load(LocalDate.now(), null);
+        log.info("Occupancy bitmaps loaded for {} rooms from {} for {} days", next.rooms.size(), next.firstDay, days);
+    }
+
+    /**
+     * Reloads one room, for changes that publish no booking events such as series writes.
+     */
+    public void refresh(Long roomId) {
+        Window current = window;
+        if (enabled && current != null) {
+            load(current.firstDay, roomId);
+        }
+    }
+
+    /**
+     * Reloads one room on a background thread, so a committed series write does not wait for
+     * it. A reload that fails is logged and left to the next scheduled refresh.
+     */
+    public void refreshLater(Long roomId) {
+        if (!enabled) {
+            return;
+        }
+        reloads.execute(() -> {
+            try {
+                refresh(roomId);
+            } catch (RuntimeException ex) {
+                log.warn("Occupancy reload of room {} failed, the next refresh repairs it", roomId, ex);
+            }
+        });
+    }
+
+    @Override
+    public void onBookingEvent(BookingEvent event) {
+        if (!enabled) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (window != null) {
+                window.apply(event);
+            }
+            if (replay != null) {
+                replay.add(event);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Loads the window, or one room of it, and installs it. Loads run one at a time so they
+     * never share the replay list.
+     */
+    private Window load(LocalDate firstDay, Long roomId) {
+        loadLock.lock();
+        try {
+            writeLock.lock();
+            try {
+                replay = new ArrayList<>();
+            } finally {
+                writeLock.unlock();
+            }
+            Window loaded;
+            try {
+                loaded = readTransaction.execute(status -> read(firstDay, roomId));
+            } catch (RuntimeException ex) {
+                writeLock.lock();
+                try {
+                    replay = null;
+                } finally {
+                    writeLock.unlock();
+                }
+                throw ex;
+            }
+            writeLock.lock();
+            try {
+                replay.stream()
+                        .filter(event -> roomId == null || roomId.equals(event.roomId()))
+                        .forEach(loaded::apply);
+                replay = null;
+                if (roomId == null) {
+                    window = loaded;
+                } else if (window != null && window.firstDay.equals(firstDay)) {
+                    window.rooms.putAll(loaded.rooms);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        reloads.close();
+    }
+
+    private Window read(LocalDate firstDay, Long roomId) {
+        Window loaded = new Window(firstDay);
+        LocalDateTime from = firstDay.atStartOfDay();
+        LocalDateTime to = firstDay.plusDays(days).atStartOfDay();
+
+        List<Long> roomIds = roomId != null
+                ? List.of(roomId)
+                : roomRepository.findAll().stream().map(Room::getId).toList();
+        roomIds.forEach(id -> loaded.rooms.put(id, new AtomicLongArray((slots + 63) >>> 6)));
+
+        List<BookingInterval> intervals = roomId != null
+                ? BookingSeriesCalendar.merge(
+                        bookingRepository.findActiveIntervalsInWindow(roomIds, from, to),
+                        bookingSeriesCalendar.occurrencesInWindow(roomIds, from, to))
+                : BookingSeriesCalendar.merge(
+                        bookingRepository.findAllActiveIntervalsInWindow(from, to),
+                        bookingSeriesCalendar.allOccurrencesInWindow(from, to));
+        intervals.forEach(interval -> loaded.occupy(interval.roomId(), interval.startTime(), interval.endTime()));
+        return loaded;
+    }
+
+    private final class Window {
+
+        private final LocalDate firstDay;
+        private final long firstSecond;
+        private final Map<Long, AtomicLongArray> rooms = new ConcurrentHashMap<>();
+
+        Window(LocalDate firstDay) {
+            this.firstDay = firstDay;
+            this.firstSecond = firstDay.toEpochDay() * SECONDS_PER_DAY;
+        }
+
+        long slotOf(LocalDateTime at) {
+            long second = at.toEpochSecond(ZoneOffset.UTC) - firstSecond;
+            return second < 0 ? -1 : second / slotSeconds;
+        }
+
+        void apply(BookingEvent event) {
+            switch (event) {
+                case BookingCreated created -> occupy(created.roomId(), created.startTime(), created.endTime());
+                case BookingCanceled canceled -> release(canceled.roomId(), canceled.startTime(), canceled.endTime());
+            }
+        }
+
+        /**
+         * Sets every slot the interval touches, from the one containing its start to the one
+         * containing its last instant.
+         */
+        void occupy(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+            AtomicLongArray bits = rooms.computeIfAbsent(roomId, id -> new AtomicLongArray((slots + 63) >>> 6));
+            long first = Math.floorDiv(seconds(startTime) - firstSecond, slotSeconds);
+            long last = Math.floorDiv(ceilSeconds(endTime) - firstSecond + slotSeconds - 1, slotSeconds);
+            update(bits, first, last, true);
+        }
+
+        /**
+         * Clears only the slots the interval covers from their start to their end.
+         */
+        void release(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+            AtomicLongArray bits = rooms.get(roomId);
+            if (bits == null) {
+                return;
+            }
+            long first = Math.floorDiv(ceilSeconds(startTime) - firstSecond + slotSeconds - 1, slotSeconds);
+            long last = Math.floorDiv(seconds(endTime) - firstSecond, slotSeconds);
+            update(bits, first, last, false);
+        }
+
+        /**
+         * Sets or clears the slots {@code [first, last)}, clipped to the window.
+         */
+        private void update(AtomicLongArray bits, long first, long last, boolean occupied) {
+            long from = Math.max(first, 0);
+            long to = Math.min(last, slots);
+            for (long slot = from; slot < to; ) {
+                int word = (int) (slot >>> 6);
+                long wordEnd = Math.min(to, ((long) word + 1) << 6);
+                long mask = (wordEnd - slot == 64 ? -1L : ((1L << (wordEnd - slot)) - 1)) << slot;
+                if (occupied) {
+                    bits.getAndAccumulate(word, mask, (value, bitsToSet) -> value | bitsToSet);
+                } else {
+                    bits.getAndAccumulate(word, ~mask, (value, bitsToKeep) -> value & bitsToKeep);
+                }
+                slot = wordEnd;
+            }
+        }
+
+        private static long seconds(LocalDateTime time) {
+            return time.toEpochSecond(ZoneOffset.UTC);
+        }
+
+        private static long ceilSeconds(LocalDateTime time) {
+            return time.toEpochSecond(ZoneOffset.UTC) + (time.getNano() > 0 ? 1 : 0);
+        }
+    }
+}
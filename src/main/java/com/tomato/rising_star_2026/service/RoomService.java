@@ -0,0 +1,151 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.dto.RoomAvailabilityResponse;
+import com.tomato.rising_star_2026.dto.RoomOccupancyResponse;
+import com.tomato.rising_star_2026.dto.TimeSlot;
+import com.tomato.rising_star_2026.exception.InvalidBookingTimeException;
+import com.tomato.rising_star_2026.exception.RoomNotFoundException;
+import com.tomato.rising_star_2026.model.BookingInterval;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class RoomService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomService.class);
+
+    private final RoomRepository roomRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingSeriesCalendar bookingSeriesCalendar;
+    private final RoomOccupancy roomOccupancy;
+    private final BookingProperties.Availability availability;
+
+    public RoomService(RoomRepository roomRepository, BookingRepository bookingRepository,
+                       BookingSeriesCalendar bookingSeriesCalendar, RoomOccupancy roomOccupancy,
+                       BookingProperties properties) {
+        this.roomRepository = roomRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingSeriesCalendar = bookingSeriesCalendar;
+        this.roomOccupancy = roomOccupancy;
+        this.availability = properties.getAvailability();
+    }
+
+    /**
+     * Finds the free slots of every room within {@code [from, to)} that are at least
+     * {@code minDuration} long. All active intervals of the window are read with one query,
+     * merged with the occurrences of booking series in the window, ordered by room and start
+     * time, and swept once; the window never starts in the past.
+     */
+    public List<RoomAvailabilityResponse> findAvailability(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        log.info("Searching free slots between {} and {} of at least {}", from, to, minDuration);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowFrom = from.isBefore(now) ? now : from;
+        validateWindow(windowFrom, to);
+        Duration requiredDuration = minDuration != null ? minDuration : Duration.ZERO;
+
+        List<Room> rooms = roomRepository.findAll(Sort.by("id"));
+        List<BookingInterval> intervals = BookingSeriesCalendar.merge(
+                bookingRepository.findAllActiveIntervalsInWindow(windowFrom, to),
+                bookingSeriesCalendar.allOccurrencesInWindow(windowFrom, to));
+
+        List<RoomAvailabilityResponse> availabilities = new ArrayList<>(rooms.size());
+        int next = 0;
+        for (Room room : rooms) {
+            while (next < intervals.size() && intervals.get(next).roomId() < room.getId()) {
+                next++;
+            }
+
+            List<TimeSlot> freeSlots = new ArrayList<>();
+            LocalDateTime freeFrom = windowFrom;
+            while (next < intervals.size() && intervals.get(next).roomId().equals(room.getId())) {
+                BookingInterval interval = intervals.get(next++);
+                addSlot(freeSlots, freeFrom, interval.startTime(), requiredDuration);
+                if (interval.endTime().isAfter(freeFrom)) {
+                    freeFrom = interval.endTime();
+                }
+            }
+            addSlot(freeSlots, freeFrom, to, requiredDuration);
+
+            availabilities.add(new RoomAvailabilityResponse(room.getId(), room.getName(), freeSlots));
+        }
+        return availabilities;
+    }
+
+    /**
+     * Tells whether the room is held at {@code at}, now by default. Times inside the occupancy
+     * window are answered from the in-memory bitmap without a transaction; anything else, or a
+     * room created after the last refresh, is checked against the database.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public RoomOccupancyResponse getOccupancy(Long roomId, LocalDateTime at) {
+        LocalDateTime time = at != null ? at : LocalDateTime.now();
+        return new RoomOccupancyResponse(roomId, time, isOccupied(roomId, time));
+    }
+
+    /**
+     * Tells for each room whether it is held at {@code at}, now by default. Without room ids
+     * every room is checked.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<RoomOccupancyResponse> getOccupancy(Collection<Long> roomIds, LocalDateTime at) {
+        LocalDateTime time = at != null ? at : LocalDateTime.now();
+        Collection<Long> rooms = roomIds != null ? roomIds : allRoomIds();
+        List<RoomOccupancyResponse> occupancy = new ArrayList<>(rooms.size());
+        for (Long roomId : rooms) {
+            occupancy.add(new RoomOccupancyResponse(roomId, time, isOccupied(roomId, time)));
+        }
+        return occupancy;
+    }
+
+    private boolean isOccupied(Long roomId, LocalDateTime at) {
+        Boolean occupied = roomOccupancy.isOccupied(roomId, at);
+        if (occupied != null) {
+            return occupied;
+        }
+        if (roomRepository.findById(roomId).isEmpty()) {
+            throw new RoomNotFoundException();
+        }
+        LocalDateTime end = at.plusNanos(1);
+        return bookingRepository.existsOverlappingBooking(roomId, at, end)
+                || bookingSeriesCalendar.hasOverlap(roomId, at, end);
+    }
+
+    private Collection<Long> allRoomIds() {
+        Collection<Long> covered = roomOccupancy.roomIds();
+        if (covered != null) {
+            return covered.stream().sorted().toList();
+        }
+        return roomRepository.findAll(Sort.by("id")).stream().map(Room::getId).toList();
+    }
+
+    private void validateWindow(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidBookingTimeException("From must be before to and in the future");
+        }
+        if (Duration.between(from, to).compareTo(availability.getMaxWindow()) > 0) {
+            throw new InvalidBookingTimeException("Availability window must not exceed " + availability.getMaxWindow());
+        }
+    }
+
+    private static void addSlot(List<TimeSlot> slots, LocalDateTime start, LocalDateTime end, Duration minDuration) {
+        if (start.isBefore(end) && Duration.between(start, end).compareTo(minDuration) >= 0) {
+            slots.add(new TimeSlot(start, end));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.event.BookingEvent;
+import com.tomato.rising_star_2026.event.BookingEventListener;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-room version of the active booking list, used as its ETag. A version is bumped after the
+ * create or cancel commits, so a listing read under a version never misses a change made before
+ * it. Tags carry the start time of this node, so a restart never revalidates an old copy.
+ */
+@Component
+public class RoomVersions implements BookingEventListener {
+
+    private final RoomRepository roomRepository;
+    private final boolean enabled;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public RoomVersions(RoomRepository roomRepository, BookingProperties properties) {
+        this.roomRepository = roomRepository;
+        this.enabled = properties.getListing().isEtags() && !properties.getConcurrency().isClusterLock();
+    }
+
+    /**
+     * Returns the strong ETag of the room's current version, or {@code null} when tags are off
+     * or the room does not exist, so a request for an unknown room is never answered with 304.
+     * The room is looked up in the room cache. Rooms that were never written to share version
+     * zero and take no memory.
+     */
+    public String etag(Long roomId) {
+        if (!enabled || roomRepository.findById(roomId).isEmpty()) {
+            return null;
+        }
+        AtomicLong version = versions.get(roomId);
+        return "\"" + epoch + "-" + (version != null ? version.get() : 0) + "\"";
+    }
+
+    @Override
+    public void onBookingEvent(BookingEvent event) {
+        invalidate(event.roomId());
+    }
+
+    /**
+     * Bumps the room's version after a committed change that publishes no booking event.
+     */
+    public void invalidate(Long roomId) {
+        if (enabled) {
+            versions.computeIfAbsent(roomId, id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+CREATE TABLE rooms (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255)
+);
+
+CREATE SEQUENCE bookings_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE bookings (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    room_id     BIGINT       NOT NULL,
+    booker_name VARCHAR(255),
+    start_time  TIMESTAMP(6),
+    end_time    TIMESTAMP(6),
+    status      VARCHAR(16),
+    CONSTRAINT fk_bookings_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+);
+
+CREATE INDEX idx_bookings_room_status_time ON bookings (room_id, status, start_time, end_time);
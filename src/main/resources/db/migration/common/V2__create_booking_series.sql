@@ -0,0 +1,23 @@
+CREATE TABLE booking_series (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    room_id          BIGINT       NOT NULL,
+    booker_name      VARCHAR(255),
+    start_time       TIMESTAMP(6),
+    end_time         TIMESTAMP(6),
+    frequency        VARCHAR(16),
+    repeat_interval  INTEGER      NOT NULL,
+    occurrence_count INTEGER      NOT NULL,
+    last_end_time    TIMESTAMP(6),
+    status           VARCHAR(16),
+    CONSTRAINT fk_booking_series_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+);
+
+CREATE INDEX idx_booking_series_room_status_time ON booking_series (room_id, status, start_time, last_end_time);
+
+CREATE TABLE booking_series_exceptions (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    series_id        BIGINT       NOT NULL,
+    occurrence_start TIMESTAMP(6),
+    CONSTRAINT fk_booking_series_exceptions_series FOREIGN KEY (series_id) REFERENCES booking_series (id),
+    CONSTRAINT uk_booking_series_exceptions UNIQUE (series_id, occurrence_start)
+);
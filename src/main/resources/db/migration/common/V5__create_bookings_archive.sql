@@ -0,0 +1,12 @@
+CREATE TABLE bookings_archive (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    room_id     BIGINT       NOT NULL,
+    booker_name VARCHAR(255),
+    start_time  TIMESTAMP(6),
+    end_time    TIMESTAMP(6),
+    status      VARCHAR(16),
+    version     BIGINT       NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_bookings_archive_room_time ON bookings_archive (room_id, start_time);
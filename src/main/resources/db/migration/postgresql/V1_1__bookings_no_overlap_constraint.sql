@@ -0,0 +1,8 @@
+-- Lets the database reject overlapping BOOKED intervals of the same room through a GiST index,
+-- so conflict detection holds even when application nodes disagree.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT ex_bookings_no_overlap
+    EXCLUDE USING gist (room_id WITH =, tsrange(start_time, end_time) WITH &&)
+    WHERE (status = 'BOOKED');
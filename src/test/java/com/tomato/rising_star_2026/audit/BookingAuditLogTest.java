@@ -0,0 +1,92 @@
+package com.tomato.rising_star_2026.audit;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.event.BookingCanceled;
+import com.tomato.rising_star_2026.event.BookingCreated;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingAuditLogTest {
+
+    @TempDir
+    private Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BookingProperties properties;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookingProperties();
+        properties.getAudit().setEnabled(true);
+        properties.getAudit().setDirectory(directory.toString());
+        properties.getAudit().setFlushInterval(Duration.ofMillis(1));
+        start = LocalDateTime.of(2026, 1, 25, 10, 0);
+    }
+
+    @Test
+    @DisplayName("publish - should append created and canceled events once the writer stops")
+    void publish_shouldAppendEvents() throws Exception {
+        BookingAuditLog auditLog = new BookingAuditLog(properties, meterRegistry);
+        auditLog.start();
+
+        auditLog.onBookingEvent(new BookingCreated(Instant.EPOCH, 1L, 2L, "Matti \"M\"", start, start.plusHours(1)));
+        auditLog.onBookingEvent(new BookingCanceled(Instant.EPOCH, 1L, 2L, start, start.plusHours(1)));
+        auditLog.stop();
+
+        assertThat(Files.readAllLines(directory.resolve(BookingAuditLog.FILE_NAME))).containsExactly(
+                "1970-01-01T00:00:00Z CREATED id=1 room=2 start=2026-01-25T10:00 end=2026-01-25T11:00 booker=\"Matti \\\"M\\\"\"",
+                "1970-01-01T00:00:00Z CANCELED id=1 room=2 start=2026-01-25T10:00 end=2026-01-25T11:00");
+        assertThat(meterRegistry.get(BookingAuditLog.WRITTEN).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("publish - should rotate the active file once it reaches the maximum size")
+    void publish_shouldRotateFiles() throws Exception {
+        properties.getAudit().setMaxFileSize(DataSize.ofBytes(200));
+        properties.getAudit().setMaxFiles(2);
+        properties.getAudit().setBatchSize(1);
+        BookingAuditLog auditLog = new BookingAuditLog(properties, meterRegistry);
+        auditLog.start();
+
+        for (long id = 1; id <= 10; id++) {
+            auditLog.onBookingEvent(new BookingCanceled(Instant.EPOCH, id, 2L, start, start.plusHours(1)));
+        }
+        auditLog.stop();
+
+        try (var files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()).toList())
+                    .containsExactlyInAnyOrder("booking-audit.log", "booking-audit.1.log", "booking-audit.2.log");
+        }
+        List<String> newest = Files.readAllLines(directory.resolve(BookingAuditLog.FILE_NAME));
+        assertThat(newest.get(newest.size() - 1)).contains("id=10 ");
+        assertThat(Files.size(directory.resolve("booking-audit.1.log"))).isLessThanOrEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("publish - should drop and count events when the buffer is full")
+    void publish_shouldDropWhenBufferFull() {
+        properties.getAudit().setBufferSize(2);
+        BookingAuditLog auditLog = new BookingAuditLog(properties, meterRegistry);
+
+        for (long id = 1; id <= 5; id++) {
+            auditLog.onBookingEvent(new BookingCanceled(Instant.EPOCH, id, 2L, start, start.plusHours(1)));
+        }
+
+        assertThat(meterRegistry.get(BookingAuditLog.DROPPED).counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(BookingAuditLog.PENDING).gauge().value()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,88 @@
+package com.tomato.rising_star_2026.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferTest {
+
+    @Test
+    @DisplayName("offer - should reject elements once the buffer is full")
+    void offer_shouldRejectWhenFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("drain - should return elements in order and free their slots")
+    void drain_shouldReturnElementsInOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                buffer.offer(lap * 4 + i);
+            }
+            assertThat(buffer.drain(drained::add, 3)).isEqualTo(3);
+            assertThat(buffer.drain(drained::add, 10)).isEqualTo(1);
+        }
+
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("RingBuffer - should require a power of two capacity")
+    void ringBuffer_shouldRequirePowerOfTwo() {
+        assertThatThrownBy(() -> new RingBuffer<>(100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("offer - should hand every element of concurrent producers to the consumer exactly once")
+    void offer_shouldNotLoseElementsOfConcurrentProducers() throws Exception {
+        int producers = 8;
+        int perProducer = 50_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        Set<Integer> consumed = new HashSet<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int first = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = first; i < first + perProducer; i++) {
+                        while (!buffer.offer(i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+            while (consumed.size() < producers * perProducer) {
+                buffer.drain(element -> assertThat(consumed.add(element)).isTrue(), 256);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(consumed).hasSize(producers * perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+}
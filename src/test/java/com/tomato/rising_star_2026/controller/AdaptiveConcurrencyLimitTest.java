@@ -0,0 +1,40 @@
+package com.tomato.rising_star_2026.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    @DisplayName("tryAcquire - should reject requests beyond the limit until one completes")
+    void tryAcquire_shouldRejectBeyondLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 2);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release(false);
+
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("release - should cut the limit on overload and grow it back when busy and fast")
+    void release_shouldAdaptLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 100);
+
+        limit.tryAcquire();
+        limit.release(true);
+        assertThat(limit.limit()).isEqualTo(18);
+
+        for (int i = 0; i < 9; i++) {
+            limit.tryAcquire();
+        }
+        limit.release(false);
+        assertThat(limit.limit()).isEqualTo(19);
+        assertThat(limit.inFlight()).isEqualTo(8);
+    }
+}
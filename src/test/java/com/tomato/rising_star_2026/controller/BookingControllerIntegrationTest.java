@@ -1,11 +1,21 @@
 package com.tomato.rising_star_2026.controller;
 
+import com.tomato.rising_star_2026.dto.BookingBinaryFormat;
 import com.tomato.rising_star_2026.dto.BookingRequest;
+import com.tomato.rising_star_2026.dto.BookingResponse;
 import com.tomato.rising_star_2026.model.Booking;
 import com.tomato.rising_star_2026.model.BookingStatus;
+import com.tomato.rising_star_2026.model.IdempotencyRecord;
 import com.tomato.rising_star_2026.model.Room;
 import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.IdempotencyRecordRepository;
 import com.tomato.rising_star_2026.repository.RoomRepository;
+import com.tomato.rising_star_2026.service.IdempotencyStore;
+import com.tomato.rising_star_2026.service.RoomIntervalIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,15 +25,24 @@ import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import tools.jackson.databind.ObjectMapper;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -42,6 +61,18 @@ class BookingControllerIntegrationTest {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private RoomIntervalIndex roomIntervalIndex;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private Room testRoom;
     private LocalDateTime futureStart;
     private LocalDateTime futureEnd;
@@ -70,6 +101,76 @@ class BookingControllerIntegrationTest {
                 .andExpect(jsonPath("$.status", is("BOOKED")));
     }
 
+    @Test
+    @DisplayName("POST /bookings - should replay the original booking for a repeated Idempotency-Key")
+    void createBooking_shouldReplayIdempotentRetry() throws Exception {
+        String key = "retry-" + UUID.randomUUID();
+        String body = objectMapper.writeValueAsString(
+                new BookingRequest(testRoom.getId(), "Test User", futureStart, futureEnd));
+
+        MvcResult first = mockMvc.perform(post("/bookings")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+        int bookingId = objectMapper.readTree(first.getResponse().getContentAsString()).get("id").asInt();
+
+        mockMvc.perform(post("/bookings")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id", is(bookingId)));
+
+        assertThat(bookingRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POST /bookings - should replay a key stored only in the database as it was created")
+    void createBooking_shouldReplayKeyFromDatabase() throws Exception {
+        BookingRequest request = new BookingRequest(testRoom.getId(), "Test User", futureStart, futureEnd);
+        Booking booking = new Booking(testRoom, "Test User", futureStart, futureEnd);
+        booking.setStatus(BookingStatus.CANCELED);
+        booking = bookingRepository.save(booking);
+        String key = "stored-" + UUID.randomUUID();
+        idempotencyRecordRepository.save(new IdempotencyRecord(key, IdempotencyStore.requestHash(request),
+                booking.getId(), LocalDateTime.now()));
+
+        mockMvc.perform(post("/bookings")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id", is(booking.getId().intValue())))
+                .andExpect(jsonPath("$.roomName", is("Test Room")))
+                .andExpect(jsonPath("$.status", is("BOOKED")));
+    }
+
+    @Test
+    @DisplayName("POST /bookings - should return 422 when an Idempotency-Key is reused for another booking")
+    void createBooking_shouldReturn422WhenIdempotencyKeyReused() throws Exception {
+        String key = "reused-" + UUID.randomUUID();
+        mockMvc.perform(post("/bookings")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BookingRequest(testRoom.getId(), "Test User", futureStart, futureEnd))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/bookings")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BookingRequest(testRoom.getId(), "Test User", futureStart.plusDays(1), futureEnd.plusDays(1)))))
+                .andExpect(status().isUnprocessableContent());
+
+        assertThat(bookingRepository.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("POST /bookings - should return 404 when room not found")
     void createBooking_shouldReturn404WhenRoomNotFound() throws Exception {
@@ -86,6 +187,7 @@ class BookingControllerIntegrationTest {
     @DisplayName("POST /bookings - should return 409 when booking overlaps")
     void createBooking_shouldReturn409WhenBookingOverlaps() throws Exception {
         bookingRepository.save(new Booking(testRoom, "Existing User", futureStart, futureEnd));
+        roomIntervalIndex.rebuild();
 
         BookingRequest request = new BookingRequest(testRoom.getId(), "Test User", futureStart, futureEnd);
 
@@ -96,6 +198,42 @@ class BookingControllerIntegrationTest {
                 .andExpect(jsonPath("$.message", is("Booking overlaps with an existing booking for this room")));
     }
 
+    @Test
+    @DisplayName("POST /bookings - should return 409 when booking overlaps a booking created through the API")
+    void createBooking_shouldReturn409WhenOverlappingApiBooking() throws Exception {
+        BookingRequest existing = new BookingRequest(testRoom.getId(), "Existing User", futureStart, futureEnd);
+        BookingRequest overlapping = new BookingRequest(testRoom.getId(), "Test User",
+                futureStart.plusHours(1), futureEnd.plusHours(1));
+
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(existing)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(overlapping)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("POST /bookings - should record operation and transaction timers")
+    void createBooking_shouldRecordMetrics() throws Exception {
+        long created = timerCount("booking.operation", "operation", "create", "outcome", "success");
+        long committed = timerCount("booking.transaction", "name", "BookingService.createBooking", "outcome", "commit");
+        BookingRequest request = new BookingRequest(testRoom.getId(), "Test User", futureStart, futureEnd);
+
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        assertThat(timerCount("booking.operation", "operation", "create", "outcome", "success"))
+                .isEqualTo(created + 1);
+        assertThat(timerCount("booking.transaction", "name", "BookingService.createBooking", "outcome", "commit"))
+                .isEqualTo(committed + 1);
+    }
+
     @Test
     @DisplayName("POST /bookings - should return 400 when validation fails")
     void createBooking_shouldReturn400WhenValidationFails() throws Exception {
@@ -108,6 +246,48 @@ class BookingControllerIntegrationTest {
                 .andExpect(jsonPath("$.error", is("Validation Failed")));
     }
 
+    @Test
+    @DisplayName("POST /bookings/batch - should report per-item results")
+    void createBookings_shouldReportPerItemResults() throws Exception {
+        bookingRepository.save(new Booking(testRoom, "Existing User", futureStart, futureEnd));
+
+        List<BookingRequest> requests = List.of(
+                new BookingRequest(testRoom.getId(), "Overlaps stored", futureStart.plusHours(1), futureEnd.plusHours(1)),
+                new BookingRequest(testRoom.getId(), "First", futureEnd, futureEnd.plusHours(1)),
+                new BookingRequest(testRoom.getId(), "Overlaps first", futureEnd.plusMinutes(30), futureEnd.plusHours(2)),
+                new BookingRequest(testRoom.getId(), "Second", futureEnd.plusHours(2), futureEnd.plusHours(3)),
+                new BookingRequest(999L, "Unknown room", futureStart, futureEnd),
+                new BookingRequest(testRoom.getId(), null, futureStart, futureEnd));
+
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(2)))
+                .andExpect(jsonPath("$.rejected", is(4)))
+                .andExpect(jsonPath("$.results[0].status", is(409)))
+                .andExpect(jsonPath("$.results[1].status", is(201)))
+                .andExpect(jsonPath("$.results[1].booking.bookerName", is("First")))
+                .andExpect(jsonPath("$.results[2].status", is(409)))
+                .andExpect(jsonPath("$.results[3].status", is(201)))
+                .andExpect(jsonPath("$.results[4].status", is(404)))
+                .andExpect(jsonPath("$.results[5].status", is(400)))
+                .andExpect(jsonPath("$.results[5].error", is("Validation Failed")));
+
+        mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                .andExpect(jsonPath("$", hasSize(3)));
+    }
+
+    @Test
+    @DisplayName("POST /bookings/batch - should return 400 when batch is empty")
+    void createBookings_shouldReturn400WhenBatchEmpty() throws Exception {
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Batch must contain at least one booking")));
+    }
+
     @Test
     @DisplayName("PATCH /bookings/{id} - should cancel booking successfully")
     void cancelBooking_shouldCancelBookingSuccessfully() throws Exception {
@@ -118,6 +298,35 @@ class BookingControllerIntegrationTest {
                 .andExpect(jsonPath("$.status", is("CANCELED")));
     }
 
+    @Test
+    @DisplayName("PATCH /bookings/{id} - should cancel with one conditional update and bump the version")
+    void cancelBooking_shouldUpdateWithoutLoadingEntity() throws Exception {
+        Booking booking = bookingRepository.save(new Booking(testRoom, "Test User", futureStart, futureEnd));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            mockMvc.perform(patch("/bookings/{id}", booking.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status", is("CANCELED")));
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getEntityStatistics(Booking.class.getName()).getUpdateCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        mockMvc.perform(patch("/bookings/{id}", booking.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("CANCELED")));
+
+        Booking canceled = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertThat(canceled.getStatus()).isEqualTo(BookingStatus.CANCELED);
+        assertThat(canceled.getVersion()).isEqualTo(booking.getVersion() + 1);
+    }
+
     @Test
     @DisplayName("PATCH /bookings/{id} - should return 404 when booking not found")
     void cancelBooking_shouldReturn404WhenBookingNotFound() throws Exception {
@@ -143,6 +352,31 @@ class BookingControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].status", is("BOOKED")));
     }
 
+    @Test
+    @DisplayName("GET /bookings - should read bookings and room names without loading entities")
+    void getBookingsByRoom_shouldUseConstantNumberOfStatements() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            bookingRepository.save(new Booking(testRoom, "User " + i, futureStart.plusDays(i), futureEnd.plusDays(i)));
+        }
+        // Warm the room cache so the existence check of the listing runs no query and loads no entity.
+        roomRepository.findById(testRoom.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(5)))
+                    .andExpect(jsonPath("$[4].roomName", is("Test Room")));
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     @DisplayName("GET /bookings - should return empty list when no bookings")
     void getBookingsByRoom_shouldReturnEmptyList() throws Exception {
@@ -151,6 +385,37 @@ class BookingControllerIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @DisplayName("GET /bookings - should serve repeated room lookups from the cache")
+    void getBookingsByRoom_shouldCacheRoomLookup() throws Exception {
+        mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                    .andExpect(status().isOk());
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /bookings - should return 404 once a cached room is deleted")
+    void getBookingsByRoom_shouldEvictDeletedRoom() throws Exception {
+        mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                .andExpect(status().isOk());
+
+        roomRepository.delete(testRoom);
+
+        mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("GET /bookings - should return 404 when room not found")
     void getBookingsByRoom_shouldReturn404WhenRoomNotFound() throws Exception {
@@ -158,4 +423,244 @@ class BookingControllerIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", is("Room not found")));
     }
+
+    @Test
+    @DisplayName("GET /bookings - should answer a matching If-None-Match with 304 without querying")
+    void getBookingsByRoom_shouldReturn304WhenUnchanged() throws Exception {
+        String etag = mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            mockMvc.perform(get("/bookings")
+                            .param("roomId", testRoom.getId().toString())
+                            .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag));
+
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /bookings - should return 404 for an unknown room even with a matching If-None-Match")
+    void getBookingsByRoom_shouldReturn404ForUnknownRoomWithEtag() throws Exception {
+        String etag = mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/bookings")
+                        .param("roomId", "999999")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    @DisplayName("GET /bookings - should change the ETag when a booking is created or canceled")
+    void getBookingsByRoom_shouldChangeEtagOnWrite() throws Exception {
+        String initial = mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        BookingRequest request = new BookingRequest(testRoom.getId(), "Test User", futureStart, futureEnd);
+        MvcResult created = mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long bookingId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        String afterCreate = mockMvc.perform(get("/bookings")
+                        .param("roomId", testRoom.getId().toString())
+                        .header("If-None-Match", initial))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(afterCreate).isNotEqualTo(initial);
+
+        mockMvc.perform(patch("/bookings/{id}", bookingId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/bookings")
+                        .param("roomId", testRoom.getId().toString())
+                        .header("If-None-Match", afterCreate))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /bookings - should return bookings overlapping the requested window")
+    void getBookingsByRoom_shouldFilterByWindow() throws Exception {
+        bookingRepository.save(new Booking(testRoom, "User 1", futureStart, futureEnd));
+        bookingRepository.save(new Booking(testRoom, "User 2", futureStart.plusDays(1), futureEnd.plusDays(1)));
+        bookingRepository.save(new Booking(testRoom, "User 3", futureStart.plusDays(2), futureEnd.plusDays(2)));
+
+        mockMvc.perform(get("/bookings")
+                        .param("roomId", testRoom.getId().toString())
+                        .param("from", futureStart.plusHours(1).toString())
+                        .param("to", futureStart.plusDays(1).plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].bookerName", is("User 1")))
+                .andExpect(jsonPath("$[1].bookerName", is("User 2")));
+    }
+
+    @Test
+    @DisplayName("GET /bookings - should page through bookings with a cursor")
+    void getBookingsByRoom_shouldPageWithCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            bookingRepository.save(new Booking(testRoom, "User " + i, futureStart.plusDays(i), futureEnd.plusDays(i)));
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/bookings")
+                        .param("roomId", testRoom.getId().toString())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].bookerName", is("User 0")))
+                .andExpect(jsonPath("$[1].bookerName", is("User 1")))
+                .andReturn();
+        String cursor = firstPage.getResponse().getHeader(BookingController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/bookings")
+                        .param("roomId", testRoom.getId().toString())
+                        .param("limit", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].bookerName", is("User 2")))
+                .andExpect(header().doesNotExist(BookingController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("GET /bookings - should return 400 when cursor is invalid")
+    void getBookingsByRoom_shouldReturn400WhenCursorInvalid() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .param("roomId", testRoom.getId().toString())
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid pagination cursor")));
+    }
+
+    @Test
+    @DisplayName("GET /bookings - should serve the binary format when it is accepted")
+    void getBookingsByRoom_shouldNegotiateBinaryFormat() throws Exception {
+        bookingRepository.save(new Booking(testRoom, "User 1", futureStart, futureEnd));
+        bookingRepository.save(new Booking(testRoom, "User 2", futureStart.plusDays(1), futureEnd.plusDays(1)));
+
+        MvcResult result = mockMvc.perform(get("/bookings")
+                        .param("roomId", testRoom.getId().toString())
+                        .accept(BookingBinaryFormat.MEDIA_TYPE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", BookingBinaryFormat.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<BookingResponse> bookings = BookingBinaryFormat.read(new ByteArrayInputStream(body));
+        assertThat(bookings).extracting(BookingResponse::getBookerName).containsExactly("User 1", "User 2");
+        assertThat(bookings.get(1).getRoomName()).isEqualTo("Test Room");
+        assertThat(bookings.get(1).getStartTime()).isEqualTo(futureStart.plusDays(1));
+
+        mockMvc.perform(get("/bookings").param("roomId", testRoom.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    @Test
+    @DisplayName("GET /bookings/schedule - should return every room's bookings in columns with two statements")
+    void getSchedule_shouldReturnColumnsPerRoom() throws Exception {
+        Room emptyRoom = roomRepository.save(new Room("Empty Room"));
+        Booking first = bookingRepository.save(new Booking(testRoom, "User 1", futureStart, futureEnd));
+        Booking second = bookingRepository.save(
+                new Booking(testRoom, "User 2", futureStart.plusDays(1), futureEnd.plusDays(1)));
+        Booking canceledBooking = new Booking(testRoom, "User 3", futureStart.plusDays(2), futureEnd.plusDays(2));
+        canceledBooking.setStatus(BookingStatus.CANCELED);
+        bookingRepository.save(canceledBooking);
+        String room = "$.rooms." + testRoom.getId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            mockMvc.perform(get("/bookings/schedule")
+                            .param("roomIds", emptyRoom.getId() + "," + testRoom.getId())
+                            .param("from", futureStart.minusHours(1).toString())
+                            .param("to", futureStart.plusDays(7).toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath(room + ".ids[0]").value(is(first.getId()), Long.class))
+                    .andExpect(jsonPath(room + ".ids[1]").value(is(second.getId()), Long.class))
+                    .andExpect(jsonPath(room + ".ids", hasSize(2)))
+                    .andExpect(jsonPath(room + ".starts[0]")
+                            .value(is(futureStart.toEpochSecond(ZoneOffset.UTC)), Long.class))
+                    .andExpect(jsonPath(room + ".ends[1]")
+                            .value(is(futureEnd.plusDays(1).toEpochSecond(ZoneOffset.UTC)), Long.class))
+                    .andExpect(jsonPath("$.rooms." + emptyRoom.getId() + ".ids", hasSize(0)));
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /bookings/schedule - should return 404 when any room is not found")
+    void getSchedule_shouldReturn404WhenRoomNotFound() throws Exception {
+        mockMvc.perform(get("/bookings/schedule")
+                        .param("roomIds", testRoom.getId() + ",999999")
+                        .param("from", futureStart.toString())
+                        .param("to", futureEnd.toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /bookings/schedule - should return 400 when the window is too long")
+    void getSchedule_shouldReturn400WhenWindowTooLong() throws Exception {
+        mockMvc.perform(get("/bookings/schedule")
+                        .param("roomIds", testRoom.getId().toString())
+                        .param("from", futureStart.toString())
+                        .param("to", futureStart.plusDays(60).toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Schedule window must not exceed PT744H")));
+    }
+
+    @Test
+    @DisplayName("GET /bookings/stream - should stream active bookings as a JSON array")
+    void streamBookingsByRoom_shouldStreamActiveBookings() throws Exception {
+        bookingRepository.save(new Booking(testRoom, "User 1", futureStart, futureEnd));
+        bookingRepository.save(new Booking(testRoom, "User 2", futureStart.plusDays(1), futureEnd.plusDays(1)));
+        Booking canceledBooking = new Booking(testRoom, "User 3", futureStart.plusDays(2), futureEnd.plusDays(2));
+        canceledBooking.setStatus(BookingStatus.CANCELED);
+        bookingRepository.save(canceledBooking);
+
+        MvcResult result = mockMvc.perform(get("/bookings/stream").param("roomId", testRoom.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].bookerName", is("User 1")))
+                .andExpect(jsonPath("$[0].roomName", is("Test Room")))
+                .andExpect(jsonPath("$[1].bookerName", is("User 2")))
+                .andExpect(jsonPath("$[2]").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /bookings/stream - should return 404 when room not found")
+    void streamBookingsByRoom_shouldReturn404WhenRoomNotFound() throws Exception {
+        mockMvc.perform(get("/bookings/stream").param("roomId", "999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    private long timerCount(String name, String... tags) {
+        return meterRegistry.find(name).tags(tags).timers().stream().mapToLong(timer -> timer.count()).sum();
+    }
 }
@@ -0,0 +1,236 @@
+package com.tomato.rising_star_2026.controller;
+
+import com.tomato.rising_star_2026.dto.BookingRequest;
+import com.tomato.rising_star_2026.dto.BookingSeriesRequest;
+import com.tomato.rising_star_2026.model.RecurrenceFrequency;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.BookingSeriesRepository;
+import com.tomato.rising_star_2026.repository.CanceledOccurrenceRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookingSeriesControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingSeriesRepository bookingSeriesRepository;
+
+    @Autowired
+    private CanceledOccurrenceRepository canceledOccurrenceRepository;
+
+    private Room testRoom;
+    private LocalDateTime firstStart;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        testRoom = roomRepository.save(new Room("Series Room"));
+        firstStart = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    private void cleanUp() {
+        canceledOccurrenceRepository.deleteAll();
+        bookingSeriesRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /bookings/series - should store a weekly series as one row")
+    void createSeries_shouldCreateWeeklySeries() throws Exception {
+        mockMvc.perform(post("/bookings/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(weekly(10))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.roomId", is(testRoom.getId().intValue())))
+                .andExpect(jsonPath("$.frequency", is("WEEKLY")))
+                .andExpect(jsonPath("$.count", is(10)))
+                .andExpect(jsonPath("$.status", is("BOOKED")));
+
+        assertThat(bookingSeriesRepository.count()).isEqualTo(1);
+        assertThat(bookingRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("POST /bookings/series - should return 409 when an occurrence overlaps a booking")
+    void createSeries_shouldReturn409WhenOccurrenceOverlaps() throws Exception {
+        LocalDateTime fifth = firstStart.plusWeeks(4);
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingRequest(
+                                testRoom.getId(), "Existing User", fifth.plusMinutes(30), fifth.plusHours(2)))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/bookings/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(weekly(10))))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("POST /bookings/series - should return 400 when neither until nor count is given")
+    void createSeries_shouldReturn400WithoutBound() throws Exception {
+        BookingSeriesRequest request = weekly(10);
+        request.setCount(null);
+
+        mockMvc.perform(post("/bookings/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Exactly one of until and count is required")));
+    }
+
+    @Test
+    @DisplayName("POST /bookings - should return 409 when booking overlaps a series occurrence")
+    void createBooking_shouldReturn409WhenOverlappingOccurrence() throws Exception {
+        createSeries(weekly(10));
+        LocalDateTime third = firstStart.plusWeeks(2);
+
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingRequest(
+                                testRoom.getId(), "Test User", third.plusMinutes(30), third.plusHours(2)))))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingRequest(
+                                testRoom.getId(), "Test User", third.plusHours(1), third.plusHours(2)))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("PATCH /bookings/series/{id}/occurrences/{start} - should free a single occurrence")
+    void cancelOccurrence_shouldFreeSingleOccurrence() throws Exception {
+        long seriesId = createSeries(weekly(10));
+        LocalDateTime third = firstStart.plusWeeks(2);
+
+        mockMvc.perform(patch("/bookings/series/{id}/occurrences/{start}", seriesId, iso(third)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/bookings/series/{id}/occurrences", seriesId)
+                        .param("from", iso(firstStart.plusWeeks(1)))
+                        .param("to", iso(firstStart.plusWeeks(4))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].startTime", is(iso(firstStart.plusWeeks(1)))))
+                .andExpect(jsonPath("$[1].startTime", is(iso(firstStart.plusWeeks(3)))));
+
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingRequest(
+                                testRoom.getId(), "Test User", third, third.plusHours(1)))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("PATCH /bookings/series/{id}/occurrences/{start} - should return 400 when no occurrence starts then")
+    void cancelOccurrence_shouldReturn400WhenNotAnOccurrence() throws Exception {
+        long seriesId = createSeries(weekly(10));
+
+        mockMvc.perform(patch("/bookings/series/{id}/occurrences/{start}", seriesId, iso(firstStart.plusMinutes(5))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("PATCH /bookings/series/{id} - should cancel the whole series")
+    void cancelSeries_shouldCancelSeries() throws Exception {
+        long seriesId = createSeries(weekly(10));
+
+        mockMvc.perform(patch("/bookings/series/{id}", seriesId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("CANCELED")));
+
+        mockMvc.perform(get("/bookings/series/{id}/occurrences", seriesId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("POST /bookings - should accept a booking once the series it overlapped is canceled")
+    void createBooking_shouldSeeCanceledSeries() throws Exception {
+        long seriesId = createSeries(weekly(10));
+        BookingRequest request = new BookingRequest(testRoom.getId(), "Test User", firstStart, firstStart.plusHours(1));
+
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(patch("/bookings/series/{id}", seriesId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("PATCH /bookings/series/{id} - should return 404 when series not found")
+    void cancelSeries_shouldReturn404WhenNotFound() throws Exception {
+        mockMvc.perform(patch("/bookings/series/{id}", 999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is("Booking series not found")));
+    }
+
+    private BookingSeriesRequest weekly(int count) {
+        return new BookingSeriesRequest(testRoom.getId(), "Team", firstStart, firstStart.plusHours(1),
+                RecurrenceFrequency.WEEKLY, 1, null, count);
+    }
+
+    private long createSeries(BookingSeriesRequest request) throws Exception {
+        String body = mockMvc.perform(post("/bookings/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(body);
+        return json.get("id").asLong();
+    }
+
+    private static String iso(LocalDateTime time) {
+        return time.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
@@ -0,0 +1,34 @@
+package com.tomato.rising_star_2026.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("acquire - should admit a burst, then one request per refill interval")
+    void acquire_shouldAdmitBurstThenRefillRate() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 3, 16);
+
+        assertThat(limiter.acquire("importer", 0)).isZero();
+        assertThat(limiter.acquire("importer", 0)).isZero();
+        assertThat(limiter.acquire("importer", 0)).isZero();
+        assertThat(limiter.acquire("importer", 0)).isEqualTo(SECOND / 10);
+        assertThat(limiter.acquire("importer", SECOND / 10)).isZero();
+        assertThat(limiter.acquire("importer", SECOND / 10)).isPositive();
+    }
+
+    @Test
+    @DisplayName("acquire - should keep separate buckets per client")
+    void acquire_shouldLimitClientsIndependently() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 1024);
+
+        assertThat(limiter.acquire("importer", 0)).isZero();
+        assertThat(limiter.acquire("importer", 0)).isPositive();
+        assertThat(limiter.acquire("user", 0)).isZero();
+    }
+}
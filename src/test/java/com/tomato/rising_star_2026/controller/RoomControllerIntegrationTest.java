@@ -0,0 +1,159 @@
+package com.tomato.rising_star_2026.controller;
+
+import com.tomato.rising_star_2026.model.Booking;
+import com.tomato.rising_star_2026.model.BookingStatus;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import com.tomato.rising_star_2026.service.RoomOccupancy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RoomControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomOccupancy roomOccupancy;
+
+    private Room testRoom;
+    private LocalDateTime dayStart;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+
+        testRoom = roomRepository.save(new Room("Test Room"));
+        dayStart = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("GET /rooms/availability - should return gaps between active bookings")
+    void getAvailability_shouldReturnFreeSlots() throws Exception {
+        Room otherRoom = roomRepository.save(new Room("Other Room"));
+        bookingRepository.save(new Booking(testRoom, "User 1", dayStart.plusHours(1), dayStart.plusHours(2)));
+        bookingRepository.save(new Booking(testRoom, "User 2", dayStart.plusHours(2).plusMinutes(15), dayStart.plusHours(4)));
+        Booking canceledBooking = new Booking(testRoom, "User 3", dayStart.plusHours(5), dayStart.plusHours(6));
+        canceledBooking.setStatus(BookingStatus.CANCELED);
+        bookingRepository.save(canceledBooking);
+
+        mockMvc.perform(get("/rooms/availability")
+                        .param("from", dayStart.toString())
+                        .param("to", dayStart.plusHours(8).toString())
+                        .param("minDuration", "PT30M"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].roomId", is(testRoom.getId().intValue())))
+                .andExpect(jsonPath("$[0].freeSlots", hasSize(2)))
+                .andExpect(jsonPath("$[0].freeSlots[0].startTime", is(iso(dayStart))))
+                .andExpect(jsonPath("$[0].freeSlots[0].endTime", is(iso(dayStart.plusHours(1)))))
+                .andExpect(jsonPath("$[0].freeSlots[1].startTime", is(iso(dayStart.plusHours(4)))))
+                .andExpect(jsonPath("$[0].freeSlots[1].endTime", is(iso(dayStart.plusHours(8)))))
+                .andExpect(jsonPath("$[1].roomId", is(otherRoom.getId().intValue())))
+                .andExpect(jsonPath("$[1].freeSlots", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("GET /rooms/availability - should return 400 when window is inverted")
+    void getAvailability_shouldReturn400WhenWindowInverted() throws Exception {
+        mockMvc.perform(get("/rooms/availability")
+                        .param("from", dayStart.plusHours(2).toString())
+                        .param("to", dayStart.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /rooms/{id}/events - should open the stream with a snapshot of active bookings")
+    void streamEvents_shouldSendSnapshotFirst() throws Exception {
+        bookingRepository.save(new Booking(testRoom, "User 1", dayStart.plusHours(1), dayStart.plusHours(2)));
+
+        MvcResult result = mockMvc.perform(get("/rooms/{id}/events", testRoom.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).startsWith("event:snapshot").contains("\"bookerName\":\"User 1\"");
+        result.getRequest().getAsyncContext().complete();
+    }
+
+    @Test
+    @DisplayName("GET /rooms/{id}/events - should return 404 when room not found")
+    void streamEvents_shouldReturn404WhenRoomNotFound() throws Exception {
+        mockMvc.perform(get("/rooms/{id}/events", 999999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /rooms/{id}/occupancy - should tell whether an active booking holds the room")
+    void getOccupancy_shouldReflectActiveBookings() throws Exception {
+        bookingRepository.save(new Booking(testRoom, "User 1", dayStart.plusHours(1), dayStart.plusHours(2)));
+        Booking canceledBooking = new Booking(testRoom, "User 2", dayStart.plusHours(3), dayStart.plusHours(4));
+        canceledBooking.setStatus(BookingStatus.CANCELED);
+        bookingRepository.save(canceledBooking);
+        roomOccupancy.refresh();
+
+        mockMvc.perform(get("/rooms/{id}/occupancy", testRoom.getId())
+                        .param("at", dayStart.plusMinutes(90).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roomId", is(testRoom.getId().intValue())))
+                .andExpect(jsonPath("$.occupied", is(true)));
+        mockMvc.perform(get("/rooms/{id}/occupancy", testRoom.getId())
+                        .param("at", dayStart.plusMinutes(210).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.occupied", is(false)));
+    }
+
+    @Test
+    @DisplayName("GET /rooms/occupancy - should check every requested room")
+    void getOccupancy_shouldCheckRequestedRooms() throws Exception {
+        Room otherRoom = roomRepository.save(new Room("Other Room"));
+        bookingRepository.save(new Booking(otherRoom, "User 1", dayStart, dayStart.plusHours(1)));
+        roomOccupancy.refresh();
+
+        mockMvc.perform(get("/rooms/occupancy")
+                        .param("roomIds", testRoom.getId().toString(), otherRoom.getId().toString())
+                        .param("at", dayStart.plusMinutes(30).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].occupied", is(false)))
+                .andExpect(jsonPath("$[1].occupied", is(true)));
+    }
+
+    @Test
+    @DisplayName("GET /rooms/{id}/occupancy - should return 404 when room not found")
+    void getOccupancy_shouldReturn404WhenRoomNotFound() throws Exception {
+        mockMvc.perform(get("/rooms/{id}/occupancy", 999999L))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String iso(LocalDateTime dateTime) {
+        return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
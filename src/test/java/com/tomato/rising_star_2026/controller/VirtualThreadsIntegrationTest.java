@@ -0,0 +1,98 @@
+package com.tomato.rising_star_2026.controller;
+
+import com.tomato.rising_star_2026.dto.BookingRequest;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.tomcat.TomcatWebServer;
+import org.springframework.boot.web.server.servlet.context.ServletWebServerApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "spring.jpa.show-sql=false"})
+class VirtualThreadsIntegrationTest {
+
+    private static final int CLIENTS = 200;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Room testRoom;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        testRoom = roomRepository.save(new Room("Virtual Room"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        roomRepository.delete(testRoom);
+    }
+
+    @Test
+    @DisplayName("Tomcat - should handle requests on virtual threads when enabled")
+    void tomcat_shouldUseVirtualThreadExecutor() {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor())
+                .isInstanceOf(VirtualThreadExecutor.class);
+    }
+
+    @Test
+    @DisplayName("POST /bookings - should create concurrent bookings on virtual threads")
+    void createBooking_shouldHandleConcurrentClients() throws Exception {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        URI uri = URI.create("http://localhost:" + context.getWebServer().getPort() + "/bookings");
+        List<Future<Integer>> statuses = new ArrayList<>();
+
+        try (HttpClient client = HttpClient.newHttpClient();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                LocalDateTime start = base.plusMinutes(15L * i);
+                BookingRequest request = new BookingRequest(testRoom.getId(), "User " + i, start, start.plusMinutes(15));
+                HttpRequest httpRequest = HttpRequest.newBuilder(uri)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(request)))
+                        .build();
+                statuses.add(clients.submit(() -> client.send(httpRequest, HttpResponse.BodyHandlers.discarding())
+                        .statusCode()));
+            }
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get()).isEqualTo(201);
+            }
+        }
+
+        assertThat(bookingRepository.count()).isEqualTo(CLIENTS);
+    }
+}
@@ -0,0 +1,71 @@
+package com.tomato.rising_star_2026.dto;
+
+import com.tomato.rising_star_2026.model.BookingStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingBinaryFormatTest {
+
+    private final LocalDateTime start = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Test
+    @DisplayName("read - should decode what the writer encoded")
+    void read_shouldRoundTrip() throws IOException {
+        List<BookingResponse> bookings = List.of(
+                new BookingResponse(42L, 1L, "Conference Room A", "Matti Meikäläinen",
+                        start, start.plusHours(1), BookingStatus.BOOKED),
+                new BookingResponse(7L, 2L, "Huone B", "Team Tomato",
+                        start.minusDays(400), start.minusDays(400).plusMinutes(30), BookingStatus.CANCELED),
+                new BookingResponse(43L, 1L, "Conference Room A", "",
+                        start.plusHours(2), start.plusHours(5), BookingStatus.BOOKED));
+
+        List<BookingResponse> decoded = BookingBinaryFormat.read(new ByteArrayInputStream(encode(bookings)));
+
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(bookings);
+    }
+
+    @Test
+    @DisplayName("write - should send each room name once and keep repeated rows small")
+    void write_shouldDictionaryEncodeRooms() throws IOException {
+        List<BookingResponse> bookings = List.of(
+                new BookingResponse(1L, 1L, "Conference Room A", "A", start, start.plusHours(1), BookingStatus.BOOKED),
+                new BookingResponse(2L, 1L, "Conference Room A", "B",
+                        start.plusHours(1), start.plusHours(2), BookingStatus.BOOKED));
+
+        byte[] encoded = encode(bookings);
+        byte[] single = encode(bookings.subList(0, 1));
+
+        // room index, id delta, booker, start delta (3600 s), length (3600 s), status
+        assertThat(encoded.length - single.length).isEqualTo(1 + 1 + 2 + 2 + 2 + 1);
+    }
+
+    @Test
+    @DisplayName("read - should reject truncated input")
+    void read_shouldRejectTruncatedInput() throws IOException {
+        byte[] encoded = encode(List.of(new BookingResponse(1L, 1L, "Room", "Booker",
+                start, start.plusHours(1), BookingStatus.BOOKED)));
+
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 2);
+        assertThatThrownBy(() -> BookingBinaryFormat.read(new ByteArrayInputStream(truncated)))
+                .isInstanceOf(EOFException.class);
+    }
+
+    private static byte[] encode(List<BookingResponse> bookings) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (BookingBinaryFormat.Writer writer = new BookingBinaryFormat.Writer(output)) {
+            bookings.forEach(writer::write);
+        }
+        return output.toByteArray();
+    }
+}
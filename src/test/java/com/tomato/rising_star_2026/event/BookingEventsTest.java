@@ -0,0 +1,31 @@
+package com.tomato.rising_star_2026.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingEventsTest {
+
+    @Test
+    @DisplayName("publish - should deliver to every listener even when one of them throws")
+    void publish_shouldIsolateFailingListener() {
+        List<BookingEvent> received = new ArrayList<>();
+        BookingEvents events = new BookingEvents(List.of(
+                event -> {
+                    throw new IllegalStateException("listener failed");
+                },
+                received::add));
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        BookingCreated created = new BookingCreated(Instant.now(), 1L, 1L, "User", start, start.plusHours(1));
+
+        events.publish(created);
+
+        assertThat(received).containsExactly(created);
+    }
+}
@@ -0,0 +1,127 @@
+package com.tomato.rising_star_2026.event;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.exception.RoomNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomEventBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BookingProperties properties;
+    private RoomEventBroadcaster broadcaster;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookingProperties();
+        broadcaster = new RoomEventBroadcaster(new ObjectMapper(), properties, meterRegistry);
+        start = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("subscribe - should send the snapshot first and then the room's deltas")
+    void subscribe_shouldSendSnapshotThenDeltas() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(1L, emitter, List::of);
+
+        broadcaster.onBookingEvent(new BookingCreated(Instant.now(), 5L, 1L, "User", start, start.plusHours(1)));
+        broadcaster.onBookingEvent(new BookingCreated(Instant.now(), 6L, 2L, "Other", start, start.plusHours(1)));
+        broadcaster.onBookingEvent(new BookingCanceled(Instant.now(), 5L, 1L, start, start.plusHours(1)));
+
+        emitter.awaitEvents(3);
+        assertThat(emitter.events).hasSize(3);
+        assertThat(emitter.events.get(0)).contains("event:snapshot");
+        assertThat(emitter.events.get(1)).contains("event:created").contains("\"bookingId\":5");
+        assertThat(emitter.events.get(2)).contains("event:canceled").contains("\"bookingId\":5");
+    }
+
+    @Test
+    @DisplayName("onBookingEvent - should disconnect a subscriber whose queue overflows")
+    void onBookingEvent_shouldEvictSlowSubscriber() throws Exception {
+        properties.getEvents().setSubscriberQueueSize(1);
+        broadcaster = new RoomEventBroadcaster(new ObjectMapper(), properties, meterRegistry);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(1L, emitter, List::of);
+        emitter.gate = new CountDownLatch(1);
+
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.onBookingEvent(new BookingCanceled(Instant.now(), id, 1L, start, start.plusHours(1)));
+            Thread.sleep(50);
+        }
+        emitter.gate.countDown();
+
+        assertThat(emitter.completed).isTrue();
+        assertThat(broadcaster.roomsWithSubscribers()).isEmpty();
+        assertThat(meterRegistry.get(RoomEventBroadcaster.EVICTIONS).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(RoomEventBroadcaster.SUBSCRIBERS).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("subscribe - should not register the subscriber when the snapshot fails")
+    void subscribe_shouldUnregisterWhenSnapshotFails() {
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        assertThatThrownBy(() -> broadcaster.subscribe(1L, emitter, () -> {
+            throw new RoomNotFoundException();
+        })).isInstanceOf(RoomNotFoundException.class);
+
+        assertThat(broadcaster.roomsWithSubscribers()).isEmpty();
+        assertThat(emitter.events).isEmpty();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.tomato.rising_star_2026.exception;
+
+import com.tomato.rising_star_2026.dto.ErrorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreparedErrorBodiesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PreparedErrorBodies errorBodies = new PreparedErrorBodies(objectMapper);
+
+    @Test
+    @DisplayName("respond - should write the same bytes as serializing the error response")
+    void respond_shouldMatchSerializedErrorResponse() {
+        ResponseEntity<byte[]> first = errorBodies.respond(HttpStatus.CONFLICT, "Conflict", "Booking overlaps");
+        ResponseEntity<byte[]> second = errorBodies.respond(HttpStatus.CONFLICT, "Conflict", "Booking overlaps");
+
+        for (ResponseEntity<byte[]> response : List.of(first, second)) {
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+
+            LocalDateTime timestamp = objectMapper.readValue(response.getBody(), ErrorResponse.class).getTimestamp();
+            ErrorResponse expected = new ErrorResponse(timestamp, 409, "Conflict", "Booking overlaps", null);
+            assertThat(new String(response.getBody())).isEqualTo(objectMapper.writeValueAsString(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("respond - should escape messages and keep statuses apart")
+    void respond_shouldEscapeMessagesPerStatus() {
+        ResponseEntity<byte[]> notFound = errorBodies.respond(HttpStatus.NOT_FOUND, "Not Found", "Room \"A\" not found");
+        ResponseEntity<byte[]> badRequest = errorBodies.respond(HttpStatus.BAD_REQUEST, "Bad Request", "Room \"A\" not found");
+
+        ErrorResponse first = objectMapper.readValue(notFound.getBody(), ErrorResponse.class);
+        ErrorResponse second = objectMapper.readValue(badRequest.getBody(), ErrorResponse.class);
+        assertThat(first.getStatus()).isEqualTo(404);
+        assertThat(first.getMessage()).isEqualTo("Room \"A\" not found");
+        assertThat(second.getStatus()).isEqualTo(400);
+        assertThat(second.getError()).isEqualTo("Bad Request");
+    }
+
+    @Test
+    @DisplayName("respond - should keep bodies with the same status and message but different errors apart")
+    void respond_shouldKeyOnError() {
+        errorBodies.respond(HttpStatus.BAD_REQUEST, "Bad Request", "Invalid");
+        ResponseEntity<byte[]> other = errorBodies.respond(HttpStatus.BAD_REQUEST, "Validation Failed", "Invalid");
+
+        assertThat(objectMapper.readValue(other.getBody(), ErrorResponse.class).getError()).isEqualTo("Validation Failed");
+    }
+
+    @Test
+    @DisplayName("respond - should serialize rejections with request data the same way")
+    void respond_shouldSerializeRequestSpecificMessages() {
+        InvalidSeriesException ex = new InvalidSeriesException("No occurrence of the series starts at 2026-01-25T10:00", false);
+
+        ResponseEntity<byte[]> response = errorBodies.respond(HttpStatus.BAD_REQUEST, "Bad Request", ex);
+
+        LocalDateTime timestamp = objectMapper.readValue(response.getBody(), ErrorResponse.class).getTimestamp();
+        ErrorResponse expected = new ErrorResponse(timestamp, 400, "Bad Request", ex.getMessage(), null);
+        assertThat(new String(response.getBody())).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+}
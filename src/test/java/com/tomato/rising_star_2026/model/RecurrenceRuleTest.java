@@ -0,0 +1,64 @@
+package com.tomato.rising_star_2026.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurrenceRuleTest {
+
+    private final LocalDateTime start = LocalDateTime.of(2026, 1, 5, 10, 0);
+    private final RecurrenceRule weekly = RecurrenceRule.of(
+            start, start.plusHours(1), RecurrenceFrequency.WEEKLY, 1, start.plusWeeks(9), null);
+
+    @Test
+    @DisplayName("of - should count occurrences up to and including until")
+    void of_shouldCountOccurrencesUntil() {
+        assertThat(weekly.count()).isEqualTo(10);
+        assertThat(weekly.lastEnd()).isEqualTo(start.plusWeeks(9).plusHours(1));
+        assertThat(RecurrenceRule.of(start, start.plusHours(1), RecurrenceFrequency.DAILY, 2, start.plusDays(5), null)
+                .count()).isEqualTo(3);
+        assertThat(RecurrenceRule.of(start, start.plusHours(1), RecurrenceFrequency.DAILY, 1, start.minusDays(1), null)
+                .count()).isZero();
+    }
+
+    @Test
+    @DisplayName("occurrences - should expand only the occurrences overlapping the window")
+    void occurrences_shouldExpandOnlyWindow() {
+        List<RecurrenceRule.Occurrence> occurrences = weekly
+                .occurrences(start.plusWeeks(2).plusMinutes(30), start.plusWeeks(4).plusMinutes(30))
+                .toList();
+
+        assertThat(occurrences).extracting(RecurrenceRule.Occurrence::index).containsExactly(2L, 3L, 4L);
+        assertThat(occurrences.get(0).startTime()).isEqualTo(start.plusWeeks(2));
+        assertThat(weekly.occurrences(start.plusWeeks(2).plusHours(1), start.plusWeeks(4)).toList())
+                .extracting(RecurrenceRule.Occurrence::index).containsExactly(3L);
+        assertThat(weekly.occurrences(start.minusYears(1), start.minusDays(1))).isEmpty();
+        assertThat(weekly.occurrences(start.plusYears(1), start.plusYears(2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("indexOf - should only match exact occurrence starts")
+    void indexOf_shouldMatchExactStarts() {
+        assertThat(weekly.indexOf(start.plusWeeks(3))).isEqualTo(3);
+        assertThat(weekly.indexOf(start.plusWeeks(3).plusMinutes(1))).isEqualTo(-1);
+        assertThat(weekly.indexOf(start.plusWeeks(10))).isEqualTo(-1);
+        assertThat(weekly.indexOf(start.minusWeeks(1))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("firstConflict - should find the first occurrence overlapping a busy interval")
+    void firstConflict_shouldFindFirstOverlap() {
+        assertThat(weekly.firstConflict(List.of(
+                new BookingInterval(1L, 1L, start.minusDays(1), start),
+                new BookingInterval(2L, 1L, start.plusHours(1), start.plusDays(6))))).isEqualTo(-1);
+        assertThat(weekly.firstConflict(List.of(
+                new BookingInterval(1L, 1L, start.plusWeeks(3).plusMinutes(59), start.plusWeeks(3).plusHours(2)),
+                new BookingInterval(2L, 1L, start.plusWeeks(5), start.plusWeeks(5).plusHours(1))))).isEqualTo(3);
+        assertThat(weekly.firstConflict(List.of(
+                new BookingInterval(1L, 1L, start.minusDays(1), start.plusWeeks(20))))).isZero();
+    }
+}
@@ -0,0 +1,98 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.model.Booking;
+import com.tomato.rising_star_2026.model.BookingStatus;
+import com.tomato.rising_star_2026.model.IdempotencyRecord;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.IdempotencyRecordRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "booking.archive.chunk-size=1",
+        "booking.archive.retention=PT0S"})
+class BookingArchiverTest {
+
+    @Autowired
+    private BookingArchiver bookingArchiver;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private RoomIntervalIndex roomIntervalIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Room room;
+    private LocalDateTime tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyRecordRepository.deleteAll();
+        bookingRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM bookings_archive");
+
+        room = roomRepository.save(new Room("Archive Room"));
+        tomorrow = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+
+    @Test
+    @DisplayName("archive - should move canceled and ended bookings in chunks and keep current ones")
+    void archive_shouldMoveCanceledAndEndedBookings() {
+        Booking ended = bookingRepository.save(new Booking(room, "Ended", tomorrow.minusDays(3), tomorrow.minusDays(2)));
+        Booking canceled = new Booking(room, "Canceled", tomorrow, tomorrow.plusHours(1));
+        canceled.setStatus(BookingStatus.CANCELED);
+        canceled = bookingRepository.save(canceled);
+        Booking upcoming = bookingRepository.save(new Booking(room, "Upcoming", tomorrow.plusHours(2), tomorrow.plusHours(3)));
+
+        int moved = bookingArchiver.archive();
+
+        assertThat(moved).isEqualTo(2);
+        assertThat(bookingRepository.findAll()).extracting(Booking::getId).containsExactly(upcoming.getId());
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM bookings_archive ORDER BY id", Long.class))
+                .containsExactlyInAnyOrder(ended.getId(), canceled.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM bookings_archive WHERE id = ?", String.class,
+                canceled.getId())).isEqualTo("CANCELED");
+        assertThat(bookingArchiver.archive()).isZero();
+    }
+
+    @Test
+    @DisplayName("archive - should drop archived bookings from the overlap index")
+    void archive_shouldRemoveArchivedIntervalsFromIndex() {
+        Booking ended = bookingRepository.save(new Booking(room, "Ended", tomorrow.minusDays(3), tomorrow.minusDays(2)));
+        roomIntervalIndex.add(room.getId(), ended.getId(), ended.getStartTime(), ended.getEndTime());
+
+        assertThat(bookingArchiver.archive()).isEqualTo(1);
+        assertThat(roomIntervalIndex.hasOverlap(room.getId(), ended.getStartTime(), ended.getEndTime())).isFalse();
+    }
+
+    @Test
+    @DisplayName("archive - should keep canceled bookings an idempotency key still points to")
+    void archive_shouldKeepBookingsWithIdempotencyKey() {
+        Booking canceled = new Booking(room, "Canceled", tomorrow, tomorrow.plusHours(1));
+        canceled.setStatus(BookingStatus.CANCELED);
+        canceled = bookingRepository.save(canceled);
+        idempotencyRecordRepository.save(new IdempotencyRecord("key-1", "hash", canceled.getId(), LocalDateTime.now()));
+
+        assertThat(bookingArchiver.archive()).isZero();
+        assertThat(bookingRepository.findAll()).extracting(Booking::getId).isEqualTo(List.of(canceled.getId()));
+    }
+}
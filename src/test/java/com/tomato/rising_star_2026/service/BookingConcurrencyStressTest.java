@@ -0,0 +1,160 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.dto.BookingRequest;
+import com.tomato.rising_star_2026.exception.BookingOverlapException;
+import com.tomato.rising_star_2026.model.Booking;
+import com.tomato.rising_star_2026.model.BookingStatus;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class BookingConcurrencyStressTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingConcurrencyStressTest.class);
+
+    private static final int REQUESTS = 3000;
+    private static final int THREADS = 64;
+    private static final int ROOMS = 4;
+    private static final int SLOTS = 48;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingProperties properties;
+
+    private List<Room> rooms;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            rooms.add(roomRepository.save(new Room("Stress Room " + i)));
+        }
+        base = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.getConcurrency().setClusterLock(false);
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll(rooms);
+    }
+
+    @Test
+    @DisplayName("createBooking - parallel overlapping requests should never double-book a room")
+    void createBooking_shouldNeverDoubleBookUnderContention() throws Exception {
+        runAndVerify("in-process locks");
+    }
+
+    @Test
+    @DisplayName("createBooking - parallel overlapping requests should never double-book a room with cluster lock")
+    void createBooking_shouldNeverDoubleBookWithClusterLock() throws Exception {
+        properties.getConcurrency().setClusterLock(true);
+        runAndVerify("cluster lock");
+    }
+
+    @Test
+    @DisplayName("createBooking - parallel overlapping requests should never double-book a room on virtual threads")
+    void createBooking_shouldNeverDoubleBookOnVirtualThreads() throws Exception {
+        runAndVerify("virtual threads", Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    private void runAndVerify(String mode) throws Exception {
+        runAndVerify(mode, Executors.newFixedThreadPool(THREADS));
+    }
+
+    private void runAndVerify(String mode, ExecutorService executor) throws Exception {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            BookingRequest request = randomRequest(i);
+            tasks.add(() -> {
+                try {
+                    bookingService.createBooking(request);
+                    return true;
+                } catch (BookingOverlapException ex) {
+                    return false;
+                }
+            });
+        }
+
+        long started = System.nanoTime();
+        List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        int created = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                created++;
+            }
+        }
+
+        log.info("[{}] {} requests in {} s ({} req/s), {} created, {} rejected",
+                mode, REQUESTS, String.format("%.2f", elapsedSeconds),
+                String.format("%.0f", REQUESTS / elapsedSeconds), created, REQUESTS - created);
+
+        Map<Long, List<Booking>> booked = bookingRepository.findAll().stream()
+                .filter(booking -> booking.getStatus() == BookingStatus.BOOKED)
+                .collect(Collectors.groupingBy(booking -> booking.getRoom().getId()));
+
+        assertThat(booked.values().stream().mapToInt(List::size).sum()).isEqualTo(created);
+        assertThat(created).isPositive().isLessThan(REQUESTS);
+        booked.forEach((roomId, bookings) -> assertNoOverlaps(bookings));
+    }
+
+    private BookingRequest randomRequest(int i) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Room room = rooms.get(random.nextInt(ROOMS));
+        LocalDateTime start = base.plusMinutes(30L * random.nextInt(SLOTS));
+        LocalDateTime end = start.plusMinutes(30L * (1 + random.nextInt(4)));
+        return new BookingRequest(room.getId(), "Stress User " + i, start, end);
+    }
+
+    private static void assertNoOverlaps(List<Booking> bookings) {
+        List<Booking> sorted = bookings.stream()
+                .sorted(Comparator.comparing(Booking::getStartTime))
+                .toList();
+        for (int i = 1; i < sorted.size(); i++) {
+            assertThat(sorted.get(i).getStartTime())
+                    .as("booking %d starts before booking %d ends", sorted.get(i).getId(), sorted.get(i - 1).getId())
+                    .isAfterOrEqualTo(sorted.get(i - 1).getEndTime());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.tomato.rising_star_2026.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs the concurrency stress scenarios with creates going through the booking engine.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "booking.engine.enabled=true"})
+class BookingEngineStressTest extends BookingConcurrencyStressTest {
+}
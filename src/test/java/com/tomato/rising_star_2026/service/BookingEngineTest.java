@@ -0,0 +1,111 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BookingEngineTest {
+
+    private BookingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        BookingProperties properties = new BookingProperties();
+        properties.getEngine().setEnabled(true);
+        properties.getEngine().setPartitions(1);
+        properties.getEngine().setQueueSize(1);
+        engine = new BookingEngine(properties, new RoomLockRegistry(properties), mock(RoomRepository.class),
+                new NoOpTransactionManager(), new SimpleMeterRegistry());
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("submit - should wait for room in a full queue instead of rejecting")
+    void submit_shouldWaitForQueueSpace() throws Exception {
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                int value = i;
+                results.add(callers.submit(() -> engine.submitForBooking((long) value, pending -> {
+                    sleep();
+                    return value;
+                })));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).isEqualTo(i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("submit - should not run a committed command again when an after-commit callback fails")
+    void submit_shouldNotRetryCommittedGroup() {
+        AtomicInteger runs = new AtomicInteger();
+
+        String result = engine.submitForBooking(1L, pending -> {
+            runs.incrementAndGet();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    throw new IllegalStateException("listener failed");
+                }
+            });
+            return "created";
+        });
+
+        assertThat(result).isEqualTo("created");
+        assertThat(runs).hasValue(1);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
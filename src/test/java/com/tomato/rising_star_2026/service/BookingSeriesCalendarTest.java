@@ -0,0 +1,72 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.model.BookingSeries;
+import com.tomato.rising_star_2026.model.OccurrenceKey;
+import com.tomato.rising_star_2026.model.RecurrenceFrequency;
+import com.tomato.rising_star_2026.model.RecurrenceRule;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingSeriesRepository;
+import com.tomato.rising_star_2026.repository.CanceledOccurrenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingSeriesCalendarTest {
+
+    @Mock
+    private BookingSeriesRepository bookingSeriesRepository;
+
+    @Mock
+    private CanceledOccurrenceRepository canceledOccurrenceRepository;
+
+    private BookingSeriesCalendar calendar;
+    private LocalDateTime firstStart;
+
+    @BeforeEach
+    void setUp() {
+        calendar = new BookingSeriesCalendar(bookingSeriesRepository, canceledOccurrenceRepository);
+        firstStart = LocalDate.now().plusDays(1).atTime(10, 0);
+
+        BookingSeries series = new BookingSeries(new Room(1L, "Room 1"), "User", RecurrenceRule.of(
+                firstStart, firstStart.plusHours(1), RecurrenceFrequency.DAILY, 1, null, 5));
+        series.setId(7L);
+        when(bookingSeriesRepository.findActiveInWindow(eq(List.of(1L)), any(), any())).thenReturn(List.of(series));
+        when(canceledOccurrenceRepository.findKeysBefore(eq(List.of(7L)), any())).thenReturn(List.of(
+                new OccurrenceKey(7L, firstStart.plusDays(1))));
+    }
+
+    @Test
+    @DisplayName("hasCachedOverlap - should read the room's series once and skip canceled occurrences")
+    void hasCachedOverlap_shouldAnswerFromMemory() {
+        assertThat(calendar.hasCachedOverlap(1L, firstStart.plusMinutes(30), firstStart.plusHours(2))).isTrue();
+        assertThat(calendar.hasCachedOverlap(1L, firstStart.plusDays(1), firstStart.plusDays(1).plusHours(1))).isFalse();
+        assertThat(calendar.hasCachedOverlap(1L, firstStart.plusHours(1), firstStart.plusHours(2))).isFalse();
+
+        verify(bookingSeriesRepository, times(1)).findActiveInWindow(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("invalidate - should read the room's series again on the next check")
+    void invalidate_shouldReloadRoom() {
+        calendar.hasCachedOverlap(1L, firstStart, firstStart.plusHours(1));
+        calendar.invalidate(1L);
+        calendar.hasCachedOverlap(1L, firstStart, firstStart.plusHours(1));
+
+        verify(bookingSeriesRepository, times(2)).findActiveInWindow(any(), any(), any());
+    }
+}
@@ -1,31 +1,47 @@
 package com.tomato.rising_star_2026.service;
 
+import com.tomato.rising_star_2026.config.BookingProperties;
 import com.tomato.rising_star_2026.dto.BookingRequest;
 import com.tomato.rising_star_2026.dto.BookingResponse;
+import com.tomato.rising_star_2026.event.BookingCanceled;
+import com.tomato.rising_star_2026.event.BookingCreated;
+import com.tomato.rising_star_2026.event.BookingEvents;
 import com.tomato.rising_star_2026.exception.BookingNotFoundException;
 import com.tomato.rising_star_2026.exception.BookingOverlapException;
 import com.tomato.rising_star_2026.exception.InvalidBookingTimeException;
 import com.tomato.rising_star_2026.exception.RoomNotFoundException;
 import com.tomato.rising_star_2026.model.Booking;
+import com.tomato.rising_star_2026.model.BookingInterval;
 import com.tomato.rising_star_2026.model.BookingStatus;
 import com.tomato.rising_star_2026.model.Room;
 import com.tomato.rising_star_2026.repository.BookingRepository;
 import com.tomato.rising_star_2026.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -39,6 +55,38 @@ class BookingServiceTest {
     @Mock
     private RoomRepository roomRepository;
 
+    @Mock
+    private RoomIntervalIndex roomIntervalIndex;
+
+    @Mock
+    private RoomLockRegistry roomLockRegistry;
+
+    @Mock
+    private BookingSeriesCalendar bookingSeriesCalendar;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private BookingEvents bookingEvents;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private BookingEngine bookingEngine;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private BookingProperties properties = new BookingProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private BookingMetrics bookingMetrics = new BookingMetrics(meterRegistry);
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -51,6 +99,8 @@ class BookingServiceTest {
         testRoom = new Room(1L, "Test Room");
         futureStart = LocalDateTime.now().plusDays(1);
         futureEnd = LocalDateTime.now().plusDays(1).plusHours(2);
+        lenient().when(roomLockRegistry.withLocks(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
     @Test
@@ -70,6 +120,25 @@ class BookingServiceTest {
         assertThat(response.getRoomId()).isEqualTo(1L);
         assertThat(response.getStatus()).isEqualTo(BookingStatus.BOOKED);
         verify(bookingRepository).save(any(Booking.class));
+        verify(roomLockRegistry).lockUntilCompletion(1L);
+        verify(bookingEvents).publish(argThat(event -> event instanceof BookingCreated created
+                && created.bookingId() == 1L && created.roomId() == 1L));
+    }
+
+    @Test
+    @DisplayName("createBooking - should take the room lock before the transaction begins")
+    void createBooking_shouldLockRoomBeforeTransaction() {
+        BookingRequest request = new BookingRequest(1L, "Test User", futureStart, futureEnd);
+        Booking savedBooking = new Booking(1L, testRoom, "Test User", futureStart, futureEnd, BookingStatus.BOOKED);
+
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
+
+        bookingService.createBooking(request);
+
+        InOrder order = inOrder(roomLockRegistry, transactionManager);
+        order.verify(roomLockRegistry).withLocks(argThat(roomIds -> roomIds.contains(1L)), any());
+        order.verify(transactionManager).getTransaction(any());
     }
 
     @Test
@@ -98,6 +167,97 @@ class BookingServiceTest {
                 .hasMessage("Booking overlaps with an existing booking for this room");
 
         verify(bookingRepository, never()).save(any());
+        verify(bookingEvents, never()).publish(any());
+        assertThat(meterRegistry.get("booking.overlap.rejections").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.operation").tags("operation", "create", "outcome", "conflict")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("createBooking - should return the booking already created for the idempotency key")
+    void createBooking_shouldReplayBookingForIdempotencyKey() {
+        BookingRequest request = new BookingRequest(1L, "Test User", futureStart, futureEnd);
+        BookingResponse original = new BookingResponse(7L, 1L, "Test Room", "Test User", futureStart, futureEnd,
+                BookingStatus.BOOKED);
+
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(idempotencyStore.find("retry-1", request)).thenReturn(Optional.of(original));
+
+        BookingResponse response = bookingService.createBooking(request, "retry-1");
+
+        assertThat(response).isSameAs(original);
+        verify(roomLockRegistry).lockUntilCompletion(1L);
+        verify(bookingRepository, never()).existsOverlappingBooking(any(), any(), any());
+        verify(bookingRepository, never()).save(any());
+        verify(bookingEvents, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("createBooking - should record the created booking under the idempotency key")
+    void createBooking_shouldSaveIdempotencyKey() {
+        BookingRequest request = new BookingRequest(1L, "Test User", futureStart, futureEnd);
+        Booking savedBooking = new Booking(1L, testRoom, "Test User", futureStart, futureEnd, BookingStatus.BOOKED);
+
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(idempotencyStore.find("first-1", request)).thenReturn(Optional.empty());
+        when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
+
+        BookingResponse response = bookingService.createBooking(request, "first-1");
+
+        verify(idempotencyStore).save("first-1", request, response);
+    }
+
+    @Test
+    @DisplayName("createBooking - should reject a booking overlapping one created earlier in the same engine group")
+    void createBooking_shouldCheckPendingBookingsOfEngineGroup() {
+        BookingRequest request = new BookingRequest(1L, "Test User", futureStart, futureEnd);
+        BookingEngine.Pending pending = new BookingEngine.Pending();
+        pending.add(new BookingInterval(5L, 1L, futureStart.minusHours(1), futureStart.plusHours(1)));
+
+        when(bookingEngine.isEnabled()).thenReturn(true);
+        when(bookingEngine.submit(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Function<BookingEngine.Pending, ?>>getArgument(1).apply(pending));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.existsOverlappingBooking(1L, futureStart, futureEnd)).thenReturn(false);
+
+        assertThatThrownBy(() -> bookingService.createBooking(request))
+                .isInstanceOf(BookingOverlapException.class);
+
+        verify(bookingRepository, never()).save(any());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("createBooking - should answer overlap check from index without querying database")
+    void createBooking_shouldUseIndexWhenEnabled() {
+        BookingRequest request = new BookingRequest(1L, "Test User", futureStart, futureEnd);
+
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(roomIntervalIndex.isReady()).thenReturn(true);
+        when(roomIntervalIndex.hasOverlap(1L, futureStart, futureEnd)).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.createBooking(request))
+                .isInstanceOf(BookingOverlapException.class);
+
+        verify(bookingRepository, never()).existsOverlappingBooking(any(), any(), any());
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("createBooking - should trust database when verifying index finds drift")
+    void createBooking_shouldTrustDatabaseWhenIndexDrifts() {
+        BookingRequest request = new BookingRequest(1L, "Test User", futureStart, futureEnd);
+
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(roomIntervalIndex.isReady()).thenReturn(true);
+        when(roomIntervalIndex.isVerifying()).thenReturn(true);
+        when(roomIntervalIndex.hasOverlap(1L, futureStart, futureEnd)).thenReturn(false);
+        when(bookingRepository.existsOverlappingBooking(1L, futureStart, futureEnd)).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.createBooking(request))
+                .isInstanceOf(BookingOverlapException.class);
+
+        verify(bookingRepository, never()).save(any());
     }
 
     @Test
@@ -144,29 +304,49 @@ class BookingServiceTest {
     @Test
     @DisplayName("cancelBooking - should cancel booking successfully")
     void cancelBooking_shouldCancelBookingSuccessfully() {
-        Booking existingBooking = new Booking(1L, testRoom, "Test User", futureStart, futureEnd, BookingStatus.BOOKED);
-        Booking canceledBooking = new Booking(1L, testRoom, "Test User", futureStart, futureEnd, BookingStatus.CANCELED);
+        BookingResponse canceledBooking = new BookingResponse(1L, 1L, "Test Room", "Test User", futureStart, futureEnd,
+                BookingStatus.CANCELED);
 
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(existingBooking));
-        when(bookingRepository.save(any(Booking.class))).thenReturn(canceledBooking);
+        when(bookingRepository.cancelIfBooked(1L)).thenReturn(1);
+        when(bookingRepository.findResponseById(1L)).thenReturn(Optional.of(canceledBooking));
 
         BookingResponse response = bookingService.cancelBooking(1L);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(BookingStatus.CANCELED);
-        verify(bookingRepository).save(existingBooking);
+        verify(bookingRepository, never()).findById(any());
+        verify(bookingRepository, never()).save(any());
+        verify(bookingEvents).publish(argThat(event -> event instanceof BookingCanceled canceled
+                && canceled.bookingId() == 1L && canceled.roomId() == 1L));
+    }
+
+    @Test
+    @DisplayName("cancelBooking - should return an already canceled booking without publishing again")
+    void cancelBooking_shouldNotPublishWhenAlreadyCanceled() {
+        BookingResponse canceledBooking = new BookingResponse(1L, 1L, "Test Room", "Test User", futureStart, futureEnd,
+                BookingStatus.CANCELED);
+
+        when(bookingRepository.cancelIfBooked(1L)).thenReturn(0);
+        when(bookingRepository.findResponseById(1L)).thenReturn(Optional.of(canceledBooking));
+
+        BookingResponse response = bookingService.cancelBooking(1L);
+
+        assertThat(response.getStatus()).isEqualTo(BookingStatus.CANCELED);
+        verify(roomIntervalIndex, never()).remove(any(), any(), any());
+        verify(bookingEvents, never()).publish(any());
     }
 
     @Test
     @DisplayName("cancelBooking - should throw BookingNotFoundException when booking does not exist")
     void cancelBooking_shouldThrowWhenBookingNotFound() {
-        when(bookingRepository.findById(999L)).thenReturn(Optional.empty());
+        when(bookingRepository.cancelIfBooked(999L)).thenReturn(0);
+        when(bookingRepository.findResponseById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> bookingService.cancelBooking(999L))
                 .isInstanceOf(BookingNotFoundException.class)
                 .hasMessage("Booking not found");
 
-        verify(bookingRepository, never()).save(any());
+        verify(bookingEvents, never()).publish(any());
     }
 
     @Test
@@ -175,9 +355,9 @@ class BookingServiceTest {
         Booking booking1 = new Booking(1L, testRoom, "Test User", futureStart, futureEnd, BookingStatus.BOOKED);
         Booking booking2 = new Booking(2L, testRoom, "Test User 2", futureStart.plusDays(1), futureEnd.plusDays(1), BookingStatus.BOOKED);
 
-        when(roomRepository.existsById(1L)).thenReturn(true);
-        when(bookingRepository.findByRoomIdAndStatus(1L, BookingStatus.BOOKED))
-                .thenReturn(List.of(booking1, booking2));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.findResponsesByRoomIdAndStatus(1L, BookingStatus.BOOKED))
+                .thenReturn(List.of(BookingResponse.fromEntity(booking1), BookingResponse.fromEntity(booking2)));
 
         List<BookingResponse> responses = bookingService.getBookingsByRoom(1L);
 
@@ -189,8 +369,8 @@ class BookingServiceTest {
     @Test
     @DisplayName("getBookingsByRoom - should return empty list when no bookings exist")
     void getBookingsByRoom_shouldReturnEmptyListWhenNoBookings() {
-        when(roomRepository.existsById(1L)).thenReturn(true);
-        when(bookingRepository.findByRoomIdAndStatus(1L, BookingStatus.BOOKED))
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.findResponsesByRoomIdAndStatus(1L, BookingStatus.BOOKED))
                 .thenReturn(List.of());
 
         List<BookingResponse> responses = bookingService.getBookingsByRoom(1L);
@@ -201,12 +381,12 @@ class BookingServiceTest {
     @Test
     @DisplayName("getBookingsByRoom - should throw RoomNotFoundException when room does not exist")
     void getBookingsByRoom_shouldThrowWhenRoomNotFound() {
-        when(roomRepository.existsById(999L)).thenReturn(false);
+        when(roomRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> bookingService.getBookingsByRoom(999L))
                 .isInstanceOf(RoomNotFoundException.class)
                 .hasMessage("Room not found");
 
-        verify(bookingRepository, never()).findByRoomIdAndStatus(any(), any());
+        verify(bookingRepository, never()).findResponsesByRoomIdAndStatus(any(), any());
     }
 }
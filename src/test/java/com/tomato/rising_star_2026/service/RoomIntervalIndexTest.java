@@ -0,0 +1,135 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.model.BookingInterval;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomIntervalIndexTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private RoomIntervalIndex index;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomIntervalIndex(bookingRepository, new BookingProperties());
+        base = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("hasOverlap - should treat intervals as half-open")
+    void hasOverlap_shouldTreatIntervalsAsHalfOpen() {
+        index.add(1L, 1L, base, base.plusHours(1));
+
+        assertThat(index.hasOverlap(1L, base.plusHours(1), base.plusHours(2))).isFalse();
+        assertThat(index.hasOverlap(1L, base.minusHours(1), base)).isFalse();
+        assertThat(index.hasOverlap(1L, base.plusMinutes(59), base.plusHours(2))).isTrue();
+        assertThat(index.hasOverlap(2L, base, base.plusHours(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("hasOverlap - should find long intervals that start well before the requested one")
+    void hasOverlap_shouldFindLongEnclosingInterval() {
+        index.add(1L, 1L, base, base.plusDays(2));
+        index.add(1L, 2L, base.plusDays(3), base.plusDays(3).plusMinutes(30));
+
+        assertThat(index.hasOverlap(1L, base.plusDays(1), base.plusDays(1).plusHours(1))).isTrue();
+        assertThat(index.hasOverlap(1L, base.plusDays(2), base.plusDays(3))).isFalse();
+    }
+
+    @Test
+    @DisplayName("remove - should free the interval of a canceled booking")
+    void remove_shouldFreeInterval() {
+        index.add(1L, 1L, base, base.plusHours(1));
+        index.remove(1L, 1L, base);
+
+        assertThat(index.hasOverlap(1L, base, base.plusHours(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("remove - should record nothing while the index is disabled")
+    void remove_shouldDoNothingWhenDisabled() {
+        BookingProperties properties = new BookingProperties();
+        properties.getOverlapIndex().setEnabled(false);
+        RoomIntervalIndex disabled = new RoomIntervalIndex(bookingRepository, properties);
+
+        disabled.add(1L, 1L, base, base.plusHours(1));
+        disabled.remove(1L, 1L, base);
+
+        assertThat(disabled.hasOverlap(1L, base, base.plusHours(1))).isFalse();
+        assertThat(disabled.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("reconcile - should report and repair drift from the database")
+    void reconcile_shouldRepairDrift() {
+        index.add(1L, 1L, base, base.plusHours(1));
+        when(bookingRepository.findActiveIntervals(any())).thenReturn(List.of(
+                new BookingInterval(2L, 1L, base.plusHours(2), base.plusHours(3))));
+
+        RoomIntervalIndex.ReconciliationReport report = index.reconcile();
+
+        assertThat(report.consistent()).isFalse();
+        assertThat(report.missingIntervals()).isEqualTo(1);
+        assertThat(report.staleIntervals()).isEqualTo(1);
+        assertThat(index.hasOverlap(1L, base, base.plusHours(1))).isFalse();
+        assertThat(index.hasOverlap(1L, base.plusHours(2), base.plusHours(3))).isTrue();
+        assertThat(index.reconcile().consistent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild - should keep changes committed while the database is read")
+    void rebuild_shouldReplayChangesMadeDuringRead() {
+        index.add(1L, 1L, base, base.plusHours(1));
+        when(bookingRepository.findActiveIntervals(any())).thenAnswer(invocation -> {
+            index.remove(1L, 1L, base);
+            index.add(1L, 2L, base.plusHours(2), base.plusHours(3));
+            return List.of(new BookingInterval(1L, 1L, base, base.plusHours(1)));
+        });
+
+        index.rebuild();
+
+        assertThat(index.hasOverlap(1L, base, base.plusHours(1))).isFalse();
+        assertThat(index.hasOverlap(1L, base.plusHours(2), base.plusHours(3))).isTrue();
+    }
+
+    @Test
+    @DisplayName("reconcile - should not report bookings committed during the read as drift")
+    void reconcile_shouldReplayChangesMadeDuringRead() {
+        when(bookingRepository.findActiveIntervals(any())).thenAnswer(invocation -> {
+            index.add(1L, 1L, base, base.plusHours(1));
+            return List.of();
+        });
+
+        RoomIntervalIndex.ReconciliationReport report = index.reconcile();
+
+        assertThat(report.consistent()).isTrue();
+        assertThat(index.hasOverlap(1L, base, base.plusHours(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("isReady - should only answer from the index once it has been warmed")
+    void isReady_shouldWaitForWarmUp() {
+        when(bookingRepository.findActiveIntervals(any())).thenReturn(List.of());
+
+        assertThat(index.isReady()).isFalse();
+        index.warmUp();
+        assertThat(index.isReady()).isTrue();
+    }
+}
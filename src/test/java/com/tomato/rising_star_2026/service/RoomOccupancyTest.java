@@ -0,0 +1,117 @@
+package com.tomato.rising_star_2026.service;
+
+import com.tomato.rising_star_2026.config.BookingProperties;
+import com.tomato.rising_star_2026.event.BookingCanceled;
+import com.tomato.rising_star_2026.event.BookingCreated;
+import com.tomato.rising_star_2026.model.BookingInterval;
+import com.tomato.rising_star_2026.model.Room;
+import com.tomato.rising_star_2026.repository.BookingRepository;
+import com.tomato.rising_star_2026.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomOccupancyTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingSeriesCalendar bookingSeriesCalendar;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RoomOccupancy occupancy;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        occupancy = new RoomOccupancy(roomRepository, bookingRepository, bookingSeriesCalendar,
+                transactionManager, new BookingProperties());
+        base = LocalDate.now().plusDays(1).atTime(10, 0);
+
+        when(roomRepository.findAll()).thenReturn(List.of(new Room(1L, "Room 1"), new Room(2L, "Room 2")));
+        when(bookingRepository.findAllActiveIntervalsInWindow(any(), any())).thenReturn(List.of(
+                new BookingInterval(1L, 1L, base, base.plusHours(1))));
+        when(bookingSeriesCalendar.allOccurrencesInWindow(any(), any())).thenReturn(List.of());
+        occupancy.refresh();
+    }
+
+    @Test
+    @DisplayName("isOccupied - should answer from the loaded bookings with half-open slots")
+    void isOccupied_shouldReflectLoadedBookings() {
+        assertThat(occupancy.isOccupied(1L, base)).isTrue();
+        assertThat(occupancy.isOccupied(1L, base.plusMinutes(59))).isTrue();
+        assertThat(occupancy.isOccupied(1L, base.plusHours(1))).isFalse();
+        assertThat(occupancy.isOccupied(1L, base.minusSeconds(1))).isFalse();
+        assertThat(occupancy.isOccupied(2L, base)).isFalse();
+    }
+
+    @Test
+    @DisplayName("isOccupied - should leave rooms and times outside the window to the caller")
+    void isOccupied_shouldReturnNullOutsideWindow() {
+        assertThat(occupancy.isOccupied(3L, base)).isNull();
+        assertThat(occupancy.isOccupied(1L, LocalDate.now().minusDays(1).atStartOfDay())).isNull();
+        assertThat(occupancy.isOccupied(1L, base.plusDays(30))).isNull();
+    }
+
+    @Test
+    @DisplayName("onBookingEvent - should set created bookings and clear fully covered slots of canceled ones")
+    void onBookingEvent_shouldApplyCreatesAndCancels() {
+        LocalDateTime start = base.plusHours(2).plusMinutes(2);
+        LocalDateTime end = base.plusHours(3);
+        occupancy.onBookingEvent(new BookingCreated(Instant.now(), 2L, 2L, "User", start, end));
+
+        assertThat(occupancy.isOccupied(2L, base.plusHours(2))).isTrue();
+        assertThat(occupancy.isOccupied(2L, base.plusHours(2).plusMinutes(30))).isTrue();
+
+        occupancy.onBookingEvent(new BookingCanceled(Instant.now(), 2L, 2L, start, end));
+
+        assertThat(occupancy.isOccupied(2L, base.plusHours(2).plusMinutes(30))).isFalse();
+        assertThat(occupancy.isOccupied(2L, base.plusHours(2))).isTrue();
+    }
+
+    @Test
+    @DisplayName("refreshLater - should reload the room in the background")
+    void refreshLater_shouldReloadRoom() {
+        when(bookingRepository.findActiveIntervalsInWindow(eq(List.of(2L)), any(), any())).thenReturn(List.of(
+                new BookingInterval(2L, 2L, base, base.plusHours(1))));
+        when(bookingSeriesCalendar.occurrencesInWindow(any(), any(), any())).thenReturn(List.of());
+
+        occupancy.refreshLater(2L);
+        occupancy.destroy();
+
+        assertThat(occupancy.isOccupied(2L, base)).isTrue();
+    }
+
+    @Test
+    @DisplayName("refreshLater - should keep the loaded bitmaps when the reload fails")
+    void refreshLater_shouldSurviveFailedReload() {
+        when(bookingRepository.findActiveIntervalsInWindow(eq(List.of(1L)), any(), any()))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        occupancy.refreshLater(1L);
+        occupancy.destroy();
+
+        assertThat(occupancy.isOccupied(1L, base)).isTrue();
+    }
+}